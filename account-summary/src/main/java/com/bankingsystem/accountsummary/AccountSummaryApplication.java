@@ -0,0 +1,14 @@
+package com.bankingsystem.accountsummary;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+
+@SpringBootApplication
+@EnableDiscoveryClient
+public class AccountSummaryApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(AccountSummaryApplication.class, args);
+    }
+}
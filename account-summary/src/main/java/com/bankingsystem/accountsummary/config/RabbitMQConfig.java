@@ -0,0 +1,96 @@
+package com.bankingsystem.accountsummary.config;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+public class RabbitMQConfig {
+
+    @Value("${rabbitmq.exchanges.internal}")
+    private String internalExchange;
+
+    @Value("${rabbitmq.queues.account-events}")
+    private String accountEventsQueue;
+
+    @Value("${rabbitmq.queues.card-events}")
+    private String cardEventsQueue;
+
+    @Value("${rabbitmq.queues.loan-events}")
+    private String loanEventsQueue;
+
+    @Value("${rabbitmq.queues.customer-events}")
+    private String customerEventsQueue;
+
+    @Value("${rabbitmq.routing-keys.account-events}")
+    private String accountEventsRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.card-events}")
+    private String cardEventsRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.loan-events}")
+    private String loanEventsRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.customer-events}")
+    private String customerEventsRoutingKey;
+
+    @Bean
+    public MessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
+        return new Jackson2JsonMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public TopicExchange internalTopicExchange() {
+        return new TopicExchange(this.internalExchange);
+    }
+
+    @Bean
+    public Queue accountEventsQueue() {
+        return QueueBuilder.durable(this.accountEventsQueue).build();
+    }
+
+    @Bean
+    public Queue cardEventsQueue() {
+        return QueueBuilder.durable(this.cardEventsQueue).build();
+    }
+
+    @Bean
+    public Queue loanEventsQueue() {
+        return QueueBuilder.durable(this.loanEventsQueue).build();
+    }
+
+    @Bean
+    public Queue customerEventsQueue() {
+        return QueueBuilder.durable(this.customerEventsQueue).build();
+    }
+
+    @Bean
+    public Binding accountEventsBinding() {
+        return BindingBuilder.bind(accountEventsQueue()).to(internalTopicExchange()).with(this.accountEventsRoutingKey);
+    }
+
+    @Bean
+    public Binding cardEventsBinding() {
+        return BindingBuilder.bind(cardEventsQueue()).to(internalTopicExchange()).with(this.cardEventsRoutingKey);
+    }
+
+    @Bean
+    public Binding loanEventsBinding() {
+        return BindingBuilder.bind(loanEventsQueue()).to(internalTopicExchange()).with(this.loanEventsRoutingKey);
+    }
+
+    @Bean
+    public Binding customerEventsBinding() {
+        return BindingBuilder.bind(customerEventsQueue()).to(internalTopicExchange())
+                .with(this.customerEventsRoutingKey);
+    }
+}
@@ -0,0 +1,47 @@
+package com.bankingsystem.accountsummary.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bankingsystem.accountsummary.dto.AccountSummaryDto;
+import com.bankingsystem.accountsummary.helper.ApiResponse;
+import com.bankingsystem.accountsummary.service.AccountSummaryService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/account-summaries")
+@RequiredArgsConstructor
+public class AccountSummaryController {
+
+    private final AccountSummaryService accountSummaryService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<AccountSummaryDto>>> getSummariesByCustomerId(
+            @RequestParam Long customerId) {
+        List<AccountSummaryDto> summaries = accountSummaryService.getSummariesByCustomerId(customerId);
+        ApiResponse<List<AccountSummaryDto>> response = ApiResponse.<List<AccountSummaryDto>>builder()
+                .success(true)
+                .message("Account summaries fetched successfully")
+                .data(summaries)
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{accountId}")
+    public ResponseEntity<ApiResponse<AccountSummaryDto>> getSummaryByAccountId(@PathVariable Long accountId) {
+        AccountSummaryDto summary = accountSummaryService.getSummaryByAccountId(accountId);
+        ApiResponse<AccountSummaryDto> response = ApiResponse.<AccountSummaryDto>builder()
+                .success(true)
+                .message("Account summary fetched successfully")
+                .data(summary)
+                .build();
+        return ResponseEntity.ok(response);
+    }
+}
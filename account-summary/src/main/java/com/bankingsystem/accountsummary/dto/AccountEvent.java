@@ -0,0 +1,34 @@
+package com.bankingsystem.accountsummary.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountEvent {
+
+    private Long accountId;
+
+    private String eventType;
+
+    private long version;
+
+    private Long customerId;
+
+    private String accountNumber;
+
+    private String accountType;
+
+    private BigDecimal balance;
+
+    private boolean active;
+
+    private LocalDateTime occurredAt;
+}
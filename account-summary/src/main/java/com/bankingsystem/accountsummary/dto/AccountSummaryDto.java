@@ -0,0 +1,36 @@
+package com.bankingsystem.accountsummary.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSummaryDto {
+
+    private Long accountId;
+
+    private Long customerId;
+
+    private String customerName;
+
+    private String accountNumber;
+
+    private String accountType;
+
+    private BigDecimal balance;
+
+    private boolean active;
+
+    private int cardCount;
+
+    private int openLoanCount;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.bankingsystem.accountsummary.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardEvent {
+
+    private Long cardId;
+
+    private String eventType;
+
+    private Long accountId;
+
+    private String status;
+
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,30 @@
+package com.bankingsystem.accountsummary.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanEvent {
+
+    private Long loanId;
+
+    private String eventType;
+
+    private Long customerId;
+
+    private Long bankAccountId;
+
+    private String status;
+
+    private BigDecimal amount;
+
+    private LocalDateTime occurredAt;
+}
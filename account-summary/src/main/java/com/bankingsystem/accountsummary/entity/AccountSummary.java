@@ -0,0 +1,65 @@
+package com.bankingsystem.accountsummary.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "account_summaries", indexes = {
+        @Index(name = "idx_account_summaries_customer_id", columnList = "customer_id")
+})
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AccountSummary {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Column(name = "customer_name")
+    private String customerName;
+
+    @Column(name = "account_number")
+    private String accountNumber;
+
+    @Column(name = "account_type")
+    private String accountType;
+
+    @Column(name = "balance", precision = 38, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
+
+    @Column(name = "card_count", nullable = false)
+    private int cardCount;
+
+    @Column(name = "open_loan_count", nullable = false)
+    private int openLoanCount;
+
+    @Column(name = "account_version", nullable = false)
+    private long accountVersion;
+
+    @Column(name = "account_event_at", nullable = false)
+    private LocalDateTime accountEventAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
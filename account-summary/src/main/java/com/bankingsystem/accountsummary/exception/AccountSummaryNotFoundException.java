@@ -0,0 +1,7 @@
+package com.bankingsystem.accountsummary.exception;
+
+public class AccountSummaryNotFoundException extends RuntimeException {
+    public AccountSummaryNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,116 @@
+package com.bankingsystem.accountsummary.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bankingsystem.accountsummary.entity.AccountSummary;
+
+@Repository
+public interface AccountSummaryRepo extends JpaRepository<AccountSummary, Long> {
+
+    List<AccountSummary> findByCustomerIdAndDeletedFalseOrderByAccountIdAsc(Long customerId);
+
+    Optional<AccountSummary> findByAccountIdAndDeletedFalse(Long accountId);
+
+    // Every upsert ignores events older than the row it would overwrite, so redelivered or reordered
+    // messages cannot roll the projection back; account events are ordered by their per-account version
+    @Modifying
+    @Query(value = "INSERT INTO account_summaries (account_id, customer_id, customer_name, account_number, "
+            + "account_type, balance, active, deleted, card_count, open_loan_count, account_version, "
+            + "account_event_at, updated_at) "
+            + "VALUES (:accountId, :customerId, "
+            + "(SELECT c.customer_name FROM summary_customers c WHERE c.customer_id = :customerId), "
+            + ":accountNumber, :accountType, :balance, :active, :deleted, "
+            + "(SELECT COUNT(*) FROM summary_cards sc WHERE sc.account_id = :accountId "
+            + "AND sc.status = 'ACTIVE' AND NOT sc.deleted), "
+            + "(SELECT COUNT(*) FROM summary_loans sl WHERE sl.account_id = :accountId "
+            + "AND sl.status IN ('PENDING', 'APPROVED', 'ACTIVE', 'OVERDUE')), "
+            + ":version, :eventAt, now()) "
+            + "ON CONFLICT (account_id) DO UPDATE SET customer_id = EXCLUDED.customer_id, "
+            + "customer_name = EXCLUDED.customer_name, account_number = EXCLUDED.account_number, "
+            + "account_type = EXCLUDED.account_type, balance = EXCLUDED.balance, active = EXCLUDED.active, "
+            + "deleted = EXCLUDED.deleted, card_count = EXCLUDED.card_count, "
+            + "open_loan_count = EXCLUDED.open_loan_count, account_version = EXCLUDED.account_version, "
+            + "account_event_at = EXCLUDED.account_event_at, updated_at = EXCLUDED.updated_at "
+            + "WHERE account_summaries.account_version < EXCLUDED.account_version "
+            + "OR (account_summaries.account_version = EXCLUDED.account_version "
+            + "AND account_summaries.account_event_at <= EXCLUDED.account_event_at)",
+            nativeQuery = true)
+    int upsertAccount(@Param("accountId") Long accountId,
+                      @Param("customerId") Long customerId,
+                      @Param("accountNumber") String accountNumber,
+                      @Param("accountType") String accountType,
+                      @Param("balance") BigDecimal balance,
+                      @Param("active") boolean active,
+                      @Param("deleted") boolean deleted,
+                      @Param("version") long version,
+                      @Param("eventAt") LocalDateTime eventAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO summary_cards (card_id, account_id, status, deleted, event_at) "
+            + "VALUES (:cardId, :accountId, :status, :deleted, :eventAt) "
+            + "ON CONFLICT (card_id) DO UPDATE SET account_id = EXCLUDED.account_id, status = EXCLUDED.status, "
+            + "deleted = EXCLUDED.deleted, event_at = EXCLUDED.event_at "
+            + "WHERE summary_cards.event_at <= EXCLUDED.event_at",
+            nativeQuery = true)
+    int upsertCard(@Param("cardId") Long cardId,
+                   @Param("accountId") Long accountId,
+                   @Param("status") String status,
+                   @Param("deleted") boolean deleted,
+                   @Param("eventAt") LocalDateTime eventAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO summary_loans (loan_id, customer_id, account_id, status, event_at) "
+            + "VALUES (:loanId, :customerId, :accountId, :status, :eventAt) "
+            + "ON CONFLICT (loan_id) DO UPDATE SET customer_id = EXCLUDED.customer_id, "
+            + "account_id = EXCLUDED.account_id, status = EXCLUDED.status, event_at = EXCLUDED.event_at "
+            + "WHERE summary_loans.event_at <= EXCLUDED.event_at",
+            nativeQuery = true)
+    int upsertLoan(@Param("loanId") Long loanId,
+                   @Param("customerId") Long customerId,
+                   @Param("accountId") Long accountId,
+                   @Param("status") String status,
+                   @Param("eventAt") LocalDateTime eventAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO summary_customers (customer_id, customer_name, deleted, event_at) "
+            + "VALUES (:customerId, :customerName, :deleted, :eventAt) "
+            + "ON CONFLICT (customer_id) DO UPDATE SET customer_name = EXCLUDED.customer_name, "
+            + "deleted = EXCLUDED.deleted, event_at = EXCLUDED.event_at "
+            + "WHERE summary_customers.event_at <= EXCLUDED.event_at",
+            nativeQuery = true)
+    int upsertCustomer(@Param("customerId") Long customerId,
+                       @Param("customerName") String customerName,
+                       @Param("deleted") boolean deleted,
+                       @Param("eventAt") LocalDateTime eventAt);
+
+    @Modifying
+    @Query(value = "UPDATE account_summaries SET card_count = "
+            + "(SELECT COUNT(*) FROM summary_cards sc WHERE sc.account_id = :accountId "
+            + "AND sc.status = 'ACTIVE' AND NOT sc.deleted), updated_at = now() "
+            + "WHERE account_id = :accountId",
+            nativeQuery = true)
+    int refreshCardCount(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query(value = "UPDATE account_summaries SET open_loan_count = "
+            + "(SELECT COUNT(*) FROM summary_loans sl WHERE sl.account_id = :accountId "
+            + "AND sl.status IN ('PENDING', 'APPROVED', 'ACTIVE', 'OVERDUE')), updated_at = now() "
+            + "WHERE account_id = :accountId",
+            nativeQuery = true)
+    int refreshOpenLoanCount(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query(value = "UPDATE account_summaries a SET customer_name = c.customer_name, updated_at = now() "
+            + "FROM summary_customers c WHERE c.customer_id = a.customer_id AND a.customer_id = :customerId",
+            nativeQuery = true)
+    int refreshCustomerName(@Param("customerId") Long customerId);
+}
@@ -0,0 +1,56 @@
+package com.bankingsystem.accountsummary.service;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.bankingsystem.accountsummary.dto.AccountEvent;
+import com.bankingsystem.accountsummary.dto.CardEvent;
+import com.bankingsystem.accountsummary.dto.CustomerEvent;
+import com.bankingsystem.accountsummary.dto.LoanEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountSummaryEventListener {
+
+    private final AccountSummaryProjector accountSummaryProjector;
+
+    @RabbitListener(queues = "${rabbitmq.queues.account-events}")
+    public void onAccountEvent(AccountEvent event) {
+        if (event.getAccountId() == null || event.getOccurredAt() == null) {
+            log.warn("Ignoring malformed account event: {}", event);
+            return;
+        }
+        accountSummaryProjector.apply(event);
+    }
+
+    @RabbitListener(queues = "${rabbitmq.queues.card-events}")
+    public void onCardEvent(CardEvent event) {
+        if (event.getCardId() == null || event.getAccountId() == null || event.getOccurredAt() == null) {
+            log.warn("Ignoring malformed card event: {}", event);
+            return;
+        }
+        accountSummaryProjector.apply(event);
+    }
+
+    @RabbitListener(queues = "${rabbitmq.queues.loan-events}")
+    public void onLoanEvent(LoanEvent event) {
+        if (event.getLoanId() == null || event.getBankAccountId() == null || event.getOccurredAt() == null) {
+            log.warn("Ignoring malformed loan event: {}", event);
+            return;
+        }
+        accountSummaryProjector.apply(event);
+    }
+
+    @RabbitListener(queues = "${rabbitmq.queues.customer-events}")
+    public void onCustomerEvent(CustomerEvent event) {
+        if (event.getCustomerId() == null || event.getOccurredAt() == null) {
+            log.warn("Ignoring malformed customer event: {}", event);
+            return;
+        }
+        accountSummaryProjector.apply(event);
+    }
+}
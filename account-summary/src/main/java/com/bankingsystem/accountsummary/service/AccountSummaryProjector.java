@@ -0,0 +1,88 @@
+package com.bankingsystem.accountsummary.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingsystem.accountsummary.dto.AccountEvent;
+import com.bankingsystem.accountsummary.dto.CardEvent;
+import com.bankingsystem.accountsummary.dto.CustomerEvent;
+import com.bankingsystem.accountsummary.dto.LoanEvent;
+import com.bankingsystem.accountsummary.repository.AccountSummaryRepo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountSummaryProjector {
+
+    private static final String ACCOUNT_DELETED = "ACCOUNT_DELETED";
+    private static final String CARD_DELETED = "CARD_DELETED";
+    private static final String CUSTOMER_DELETED = "CUSTOMER_DELETED";
+
+    private final AccountSummaryRepo accountSummaryRepo;
+
+    @Transactional
+    public void apply(AccountEvent event) {
+        int applied = accountSummaryRepo.upsertAccount(
+                event.getAccountId(),
+                event.getCustomerId(),
+                event.getAccountNumber(),
+                event.getAccountType(),
+                event.getBalance(),
+                event.isActive(),
+                ACCOUNT_DELETED.equals(event.getEventType()),
+                event.getVersion(),
+                event.getOccurredAt());
+        logStale(applied, "account", event.getAccountId(), event.getEventType());
+    }
+
+    @Transactional
+    public void apply(CardEvent event) {
+        int applied = accountSummaryRepo.upsertCard(
+                event.getCardId(),
+                event.getAccountId(),
+                event.getStatus(),
+                CARD_DELETED.equals(event.getEventType()),
+                event.getOccurredAt());
+        logStale(applied, "card", event.getCardId(), event.getEventType());
+        accountSummaryRepo.refreshCardCount(event.getAccountId());
+    }
+
+    @Transactional
+    public void apply(LoanEvent event) {
+        int applied = accountSummaryRepo.upsertLoan(
+                event.getLoanId(),
+                event.getCustomerId(),
+                event.getBankAccountId(),
+                event.getStatus(),
+                event.getOccurredAt());
+        logStale(applied, "loan", event.getLoanId(), event.getEventType());
+        accountSummaryRepo.refreshOpenLoanCount(event.getBankAccountId());
+    }
+
+    @Transactional
+    public void apply(CustomerEvent event) {
+        boolean deleted = CUSTOMER_DELETED.equals(event.getEventType());
+        int applied = accountSummaryRepo.upsertCustomer(
+                event.getCustomerId(),
+                deleted ? null : fullName(event),
+                deleted,
+                event.getOccurredAt());
+        logStale(applied, "customer", event.getCustomerId(), event.getEventType());
+        accountSummaryRepo.refreshCustomerName(event.getCustomerId());
+    }
+
+    private String fullName(CustomerEvent event) {
+        String firstName = event.getFirstName() == null ? "" : event.getFirstName();
+        String lastName = event.getLastName() == null ? "" : event.getLastName();
+        return (firstName + " " + lastName).trim();
+    }
+
+    private void logStale(int applied, String entity, Long id, String eventType) {
+        if (applied == 0) {
+            log.debug("Skipped stale {} for {} {}", eventType, entity, id);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.bankingsystem.accountsummary.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingsystem.accountsummary.dto.AccountSummaryDto;
+import com.bankingsystem.accountsummary.entity.AccountSummary;
+import com.bankingsystem.accountsummary.exception.AccountSummaryNotFoundException;
+import com.bankingsystem.accountsummary.repository.AccountSummaryRepo;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AccountSummaryService {
+
+    private final AccountSummaryRepo accountSummaryRepo;
+
+    public List<AccountSummaryDto> getSummariesByCustomerId(Long customerId) {
+        return accountSummaryRepo.findByCustomerIdAndDeletedFalseOrderByAccountIdAsc(customerId)
+                .stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    public AccountSummaryDto getSummaryByAccountId(Long accountId) {
+        return accountSummaryRepo.findByAccountIdAndDeletedFalse(accountId)
+                .map(this::toDto)
+                .orElseThrow(() -> new AccountSummaryNotFoundException(
+                        "Account summary not found for account id: " + accountId));
+    }
+
+    private AccountSummaryDto toDto(AccountSummary summary) {
+        return AccountSummaryDto.builder()
+                .accountId(summary.getAccountId())
+                .customerId(summary.getCustomerId())
+                .customerName(summary.getCustomerName())
+                .accountNumber(summary.getAccountNumber())
+                .accountType(summary.getAccountType())
+                .balance(summary.getBalance())
+                .active(summary.isActive())
+                .cardCount(summary.getCardCount())
+                .openLoanCount(summary.getOpenLoanCount())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+}
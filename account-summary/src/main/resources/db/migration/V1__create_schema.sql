@@ -0,0 +1,43 @@
+CREATE TABLE IF NOT EXISTS account_summaries (
+    account_id       BIGINT         PRIMARY KEY,
+    customer_id      BIGINT,
+    customer_name    VARCHAR(255),
+    account_number   VARCHAR(255),
+    account_type     VARCHAR(255),
+    balance          NUMERIC(38, 2),
+    active           BOOLEAN        NOT NULL,
+    deleted          BOOLEAN        NOT NULL,
+    card_count       INTEGER        NOT NULL,
+    open_loan_count  INTEGER        NOT NULL,
+    account_event_at TIMESTAMP(6)   NOT NULL,
+    updated_at       TIMESTAMP(6)   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_account_summaries_customer_id ON account_summaries (customer_id);
+
+CREATE TABLE IF NOT EXISTS summary_customers (
+    customer_id   BIGINT       PRIMARY KEY,
+    customer_name VARCHAR(255),
+    deleted       BOOLEAN      NOT NULL,
+    event_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS summary_cards (
+    card_id    BIGINT       PRIMARY KEY,
+    account_id BIGINT       NOT NULL,
+    status     VARCHAR(255),
+    deleted    BOOLEAN      NOT NULL,
+    event_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_summary_cards_account_id ON summary_cards (account_id);
+
+CREATE TABLE IF NOT EXISTS summary_loans (
+    loan_id     BIGINT       PRIMARY KEY,
+    customer_id BIGINT,
+    account_id  BIGINT       NOT NULL,
+    status      VARCHAR(255),
+    event_at    TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_summary_loans_account_id ON summary_loans (account_id);
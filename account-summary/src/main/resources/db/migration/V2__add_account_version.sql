@@ -0,0 +1 @@
+ALTER TABLE account_summaries ADD COLUMN IF NOT EXISTS account_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,86 @@
+package com.bankingsystem.bankaccount.client;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.bankingsystem.bankaccount.dto.CustomerBatchRequest;
+import com.bankingsystem.bankaccount.dto.CustomerDto;
+import com.bankingsystem.bankaccount.helper.ApiResponse;
+import com.bankingsystem.common.cache.GuardedCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class CachedCustomerClient {
+
+    private final CustomerClient customerClient;
+    private final CustomerBatchLoader customerBatchLoader;
+    private final GuardedCache<Long, CustomerDto> customers;
+
+    public CachedCustomerClient(CustomerClient customerClient,
+                                CustomerBatchLoader customerBatchLoader,
+                                MeterRegistry meterRegistry,
+                                @Value("${customer.cache.ttl-seconds:300}") long ttlSeconds,
+                                @Value("${customer.cache.max-size:10000}") long maxSize) {
+        this.customerClient = customerClient;
+        this.customerBatchLoader = customerBatchLoader;
+        this.customers = new GuardedCache<>("customers", Duration.ofSeconds(ttlSeconds), maxSize, meterRegistry);
+    }
+
+    public ApiResponse<CustomerDto> getCustomerById(Long id) {
+        CustomerDto cached = customers.getIfPresent(id);
+        if (cached != null) {
+            return ApiResponse.<CustomerDto>builder()
+                    .success(true)
+                    .message("Customer retrieved successfully")
+                    .data(cached)
+                    .build();
+        }
+
+        long token = customers.loadToken();
+        ApiResponse<CustomerDto> response = customerBatchLoader.load(id);
+        if (response != null && response.isSuccess() && response.getData() != null) {
+            customers.putIfUnchanged(token, id, response.getData());
+        }
+        return response;
+    }
+
+    public Map<Long, CustomerDto> getCustomersByIds(Collection<Long> ids) {
+        Map<Long, CustomerDto> result = new HashMap<>(customers.getAllPresent(ids));
+        List<Long> missing = ids.stream()
+                .filter(id -> !result.containsKey(id))
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long token = customers.loadToken();
+        ApiResponse<List<CustomerDto>> response = customerClient.getCustomersByIds(CustomerBatchRequest.builder()
+                .ids(missing)
+                .build());
+        if (response == null || !response.isSuccess() || response.getData() == null) {
+            log.warn("Batched customer lookup failed: {}", response != null ? response.getMessage() : "no response");
+            return result;
+        }
+
+        response.getData().forEach(customer -> {
+            customers.putIfUnchanged(token, customer.getId(), customer);
+            result.put(customer.getId(), customer);
+        });
+        return result;
+    }
+
+    public void evict(Long id) {
+        customers.evict(id);
+        log.debug("Evicted customer {} from cache", id);
+    }
+}
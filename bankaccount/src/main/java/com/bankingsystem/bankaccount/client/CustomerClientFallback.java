@@ -1,5 +1,8 @@
 package com.bankingsystem.bankaccount.client;
 
+import java.util.List;
+
+import com.bankingsystem.bankaccount.dto.CustomerBatchRequest;
 import com.bankingsystem.bankaccount.dto.CustomerDto;
 import com.bankingsystem.bankaccount.helper.ApiResponse;
 import org.springframework.stereotype.Component;
@@ -17,6 +20,16 @@ public class CustomerClientFallback implements CustomerClient {
                         .build();
     }
 
+    @Override
+    public ApiResponse<List<CustomerDto>> getCustomersByIds(CustomerBatchRequest request) {
+        return
+                ApiResponse.<List<CustomerDto>>builder()
+                        .success(false)
+                        .message("Customer service unavailable")
+                        .data(null)
+                        .build();
+    }
+
     @Override
     public ApiResponse<CustomerDto> getCustomerByUsername(String username) {
         return
@@ -0,0 +1,64 @@
+package com.bankingsystem.bankaccount.config;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboxConfig {
+
+    @Value("${rabbitmq.exchanges.internal}")
+    private String internalExchange;
+
+    @Value("${rabbitmq.routing-keys.notification-request}")
+    private String notificationRequestRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.account-created}")
+    private String accountCreatedRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.account-updated}")
+    private String accountUpdatedRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.account-deleted}")
+    private String accountDeletedRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.balance-changed}")
+    private String balanceChangedRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.account-status-changed}")
+    private String accountStatusChangedRoutingKey;
+
+    @Bean
+    public TopicExchange internalTopicExchange() {
+        return new TopicExchange(this.internalExchange);
+    }
+
+    public String getInternalExchange() {
+        return internalExchange;
+    }
+
+    public String getNotificationRequestRoutingKey() {
+        return notificationRequestRoutingKey;
+    }
+
+    public String getAccountCreatedRoutingKey() {
+        return accountCreatedRoutingKey;
+    }
+
+    public String getAccountUpdatedRoutingKey() {
+        return accountUpdatedRoutingKey;
+    }
+
+    public String getAccountDeletedRoutingKey() {
+        return accountDeletedRoutingKey;
+    }
+
+    public String getBalanceChangedRoutingKey() {
+        return balanceChangedRoutingKey;
+    }
+
+    public String getAccountStatusChangedRoutingKey() {
+        return accountStatusChangedRoutingKey;
+    }
+}
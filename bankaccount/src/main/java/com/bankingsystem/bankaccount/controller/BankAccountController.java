@@ -1,14 +1,25 @@
 package com.bankingsystem.bankaccount.controller;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.bankingsystem.bankaccount.service.BankAccountService;
+import com.bankingsystem.bankaccount.service.LedgerService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.bankingsystem.bankaccount.dto.BalanceAdjustmentRequest;
+import com.bankingsystem.bankaccount.dto.BalanceBatchRequest;
+import com.bankingsystem.bankaccount.dto.BalanceOperationResult;
+import com.bankingsystem.bankaccount.dto.BalanceReconciliationDto;
 import com.bankingsystem.bankaccount.dto.BankAccountDto;
 import com.bankingsystem.bankaccount.dto.CreateBankAccountDto;
+import com.bankingsystem.bankaccount.dto.LedgerEntryDto;
+import com.bankingsystem.bankaccount.dto.TransferFundsRequest;
+import com.bankingsystem.bankaccount.dto.TransferResultDto;
 import com.bankingsystem.bankaccount.dto.UpdateBalanceRequest;
 import com.bankingsystem.bankaccount.helper.ApiResponse;
 
@@ -21,6 +32,7 @@ import lombok.RequiredArgsConstructor;
 public class BankAccountController {
 
     private final BankAccountService bankAccountService;
+    private final LedgerService ledgerService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<BankAccountDto>> createAccount(@Valid @RequestBody CreateBankAccountDto bankAccountDto) {
@@ -156,4 +168,100 @@ public class BankAccountController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/{id}/balance/adjust")
+    public ResponseEntity<ApiResponse<BankAccountDto>> adjustBalance(
+            @PathVariable Long id,
+            @Valid @RequestBody BalanceAdjustmentRequest request) {
+
+        BankAccountDto updatedAccount = bankAccountService.adjustBalance(id, request.getAmount());
+
+        ApiResponse<BankAccountDto> response = ApiResponse.<BankAccountDto>builder()
+                .success(true)
+                .message("Bank account balance adjusted successfully")
+                .data(updatedAccount)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/transfer")
+    public ResponseEntity<ApiResponse<TransferResultDto>> transferFunds(
+            @Valid @RequestBody TransferFundsRequest request) {
+
+        TransferResultDto result = bankAccountService.transferFunds(
+                request.getFromAccountId(), request.getToAccountId(), request.getAmount());
+
+        ApiResponse<TransferResultDto> response = ApiResponse.<TransferResultDto>builder()
+                .success(true)
+                .message("Funds transferred successfully")
+                .data(result)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/balance/batch")
+    public ResponseEntity<ApiResponse<List<BalanceOperationResult>>> applyBalanceBatch(
+            @Valid @RequestBody BalanceBatchRequest request) {
+
+        List<BalanceOperationResult> results = bankAccountService.applyBalanceBatch(request.getOperations());
+
+        ApiResponse<List<BalanceOperationResult>> response = ApiResponse.<List<BalanceOperationResult>>builder()
+                .success(true)
+                .message("Balance batch applied")
+                .data(results)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/ledger")
+    public ResponseEntity<ApiResponse<List<LedgerEntryDto>>> getLedgerEntries(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long beforeSequence,
+            @RequestParam(defaultValue = "50") int size) {
+
+        List<LedgerEntryDto> entries = ledgerService.getEntries(id, beforeSequence, size);
+
+        ApiResponse<List<LedgerEntryDto>> response = ApiResponse.<List<LedgerEntryDto>>builder()
+                .success(true)
+                .message("Ledger entries retrieved successfully")
+                .data(entries)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/balance-at")
+    public ResponseEntity<ApiResponse<BigDecimal>> getBalanceAt(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+
+        BigDecimal balance = ledgerService.getBalanceAt(id, at);
+
+        ApiResponse<BigDecimal> response = ApiResponse.<BigDecimal>builder()
+                .success(true)
+                .message("Balance at " + at + " retrieved successfully")
+                .data(balance)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{id}/reconcile")
+    public ResponseEntity<ApiResponse<BalanceReconciliationDto>> reconcile(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean repair) {
+
+        BalanceReconciliationDto result = ledgerService.reconcile(id, repair);
+
+        ApiResponse<BalanceReconciliationDto> response = ApiResponse.<BalanceReconciliationDto>builder()
+                .success(result.isConsistent() || result.isRepaired())
+                .message(result.isConsistent() ? "Balance matches ledger" : "Balance does not match ledger")
+                .data(result)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
 }
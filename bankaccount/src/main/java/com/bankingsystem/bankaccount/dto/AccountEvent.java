@@ -0,0 +1,36 @@
+package com.bankingsystem.bankaccount.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.bankingsystem.bankaccount.entity.AccountType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountEvent {
+
+    private Long accountId;
+
+    private AccountEventType eventType;
+
+    private long version;
+
+    private Long customerId;
+
+    private String accountNumber;
+
+    private AccountType accountType;
+
+    private BigDecimal balance;
+
+    private boolean active;
+
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,7 @@
+package com.bankingsystem.bankaccount.dto;
+
+public enum AccountEventType {
+    ACCOUNT_CREATED,
+    ACCOUNT_UPDATED,
+    ACCOUNT_DELETED
+}
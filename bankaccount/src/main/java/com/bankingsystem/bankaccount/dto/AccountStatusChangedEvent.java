@@ -0,0 +1,25 @@
+package com.bankingsystem.bankaccount.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountStatusChangedEvent {
+
+    private Long accountId;
+
+    private long version;
+
+    private Long customerId;
+
+    private boolean active;
+
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,20 @@
+package com.bankingsystem.bankaccount.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceAdjustmentRequest {
+
+    // Signed delta: positive credits the account, negative debits it
+    @NotNull(message = "Amount is required")
+    private BigDecimal amount;
+}
@@ -0,0 +1,30 @@
+package com.bankingsystem.bankaccount.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceChangedEvent {
+
+    private Long accountId;
+
+    private long version;
+
+    private Long customerId;
+
+    private BigDecimal previousBalance;
+
+    private BigDecimal balance;
+
+    private BigDecimal delta;
+
+    private LocalDateTime occurredAt;
+}
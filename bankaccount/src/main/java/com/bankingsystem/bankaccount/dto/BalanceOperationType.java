@@ -0,0 +1,6 @@
+package com.bankingsystem.bankaccount.dto;
+
+public enum BalanceOperationType {
+    ADJUST,
+    TRANSFER
+}
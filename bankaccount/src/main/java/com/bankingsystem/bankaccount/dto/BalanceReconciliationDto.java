@@ -0,0 +1,27 @@
+package com.bankingsystem.bankaccount.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceReconciliationDto {
+
+    private Long accountId;
+
+    private BigDecimal storedBalance;
+
+    private BigDecimal ledgerBalance;
+
+    private BigDecimal entryTotal;
+
+    private boolean consistent;
+
+    private boolean repaired;
+}
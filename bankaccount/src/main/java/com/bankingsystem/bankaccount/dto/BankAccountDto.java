@@ -26,4 +26,6 @@ public class BankAccountDto {
     private AccountType accountType;
 
     private boolean active;
+
+    private long ledgerSequence;
 }
\ No newline at end of file
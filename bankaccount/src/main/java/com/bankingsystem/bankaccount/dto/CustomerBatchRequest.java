@@ -0,0 +1,17 @@
+package com.bankingsystem.bankaccount.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerBatchRequest {
+
+    private List<Long> ids;
+}
@@ -0,0 +1,34 @@
+package com.bankingsystem.bankaccount.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.bankingsystem.bankaccount.entity.LedgerEntryType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerEntryDto {
+
+    private Long id;
+
+    private Long accountId;
+
+    private Long entrySequence;
+
+    private LedgerEntryType entryType;
+
+    private BigDecimal amount;
+
+    private BigDecimal balanceAfter;
+
+    private Long counterpartyAccountId;
+
+    private LocalDateTime createdAt;
+}
@@ -9,6 +9,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,7 +19,9 @@ import lombok.NoArgsConstructor;
 
 
 @Entity
-@Table(name = "bank_accounts")
+@Table(name = "bank_accounts", indexes = {
+        @Index(name = "idx_bank_accounts_customer_id_account_type", columnList = "customer_id, account_type")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,7 +29,8 @@ import lombok.NoArgsConstructor;
 public class BankAccount {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bank_account_seq")
+    @SequenceGenerator(name = "bank_account_seq", sequenceName = "bank_accounts_pooled_seq", allocationSize = 50)
     private Long id;
 
     private Long customerId;
@@ -39,4 +44,10 @@ public class BankAccount {
     private AccountType accountType;
 
     private boolean active;
+
+    @Column(name = "event_version", nullable = false)
+    private long eventVersion;
+
+    @Column(name = "ledger_sequence", nullable = false)
+    private long ledgerSequence;
 }
@@ -0,0 +1,6 @@
+package com.bankingsystem.bankaccount.entity;
+
+public enum LedgerEntryType {
+    DEBIT,
+    CREDIT
+}
@@ -22,6 +22,7 @@ public class BankAccountMapper {
                 .balance(bankAccount.getBalance() != null ? bankAccount.getBalance() : BigDecimal.ZERO)
                 .accountType(bankAccount.getAccountType())
                 .active(bankAccount.isActive())
+                .ledgerSequence(bankAccount.getLedgerSequence())
                 .build();
     }
 
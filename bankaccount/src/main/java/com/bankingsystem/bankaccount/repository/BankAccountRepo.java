@@ -1,14 +1,22 @@
 package com.bankingsystem.bankaccount.repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.bankingsystem.bankaccount.entity.AccountType;
 import com.bankingsystem.bankaccount.entity.BankAccount;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface BankAccountRepo extends JpaRepository<BankAccount, Long> {
 
@@ -22,4 +30,21 @@ public interface BankAccountRepo extends JpaRepository<BankAccount, Long> {
 
     List<BankAccount> findByAccountType(AccountType accountType);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BankAccount a SET a.balance = a.balance + :delta "
+            + "WHERE a.id = :id AND a.active = true AND a.balance + :delta >= 0")
+    int applyBalanceDelta(@Param("id") Long id, @Param("delta") BigDecimal delta);
+
+    // A scalar, so the entity is not put in the persistence context ahead of findByIdForUpdate
+    @Query("SELECT a.customerId FROM BankAccount a WHERE a.id = :id")
+    Optional<Long> findCustomerIdById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM BankAccount a WHERE a.id = :id")
+    Optional<BankAccount> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM BankAccount a WHERE a.id IN :ids ORDER BY a.id")
+    List<BankAccount> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
 }
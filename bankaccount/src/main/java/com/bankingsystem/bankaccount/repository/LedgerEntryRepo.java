@@ -0,0 +1,34 @@
+package com.bankingsystem.bankaccount.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bankingsystem.bankaccount.entity.LedgerEntry;
+
+@Repository
+public interface LedgerEntryRepo extends JpaRepository<LedgerEntry, Long> {
+
+    List<LedgerEntry> findByAccountIdOrderByEntrySequenceDesc(Long accountId, Pageable pageable);
+
+    List<LedgerEntry> findByAccountIdAndEntrySequenceLessThanOrderByEntrySequenceDesc(Long accountId,
+            Long beforeSequence, Pageable pageable);
+
+    Optional<LedgerEntry> findFirstByAccountIdOrderByEntrySequenceDesc(Long accountId);
+
+    Optional<LedgerEntry> findFirstByAccountIdAndCreatedAtLessThanEqualOrderByCreatedAtDescEntrySequenceDesc(
+            Long accountId, LocalDateTime at);
+
+    boolean existsByAccountIdAndSequenceInferredTrue(Long accountId);
+
+    @Query("SELECT COALESCE(SUM(CASE WHEN e.entryType = com.bankingsystem.bankaccount.entity.LedgerEntryType.CREDIT "
+            + "THEN e.amount ELSE -e.amount END), 0) FROM LedgerEntry e WHERE e.accountId = :accountId")
+    BigDecimal sumSignedAmounts(@Param("accountId") Long accountId);
+}
@@ -1,11 +1,18 @@
 package com.bankingsystem.bankaccount.service;
 
-import com.bankingsystem.bankaccount.client.CustomerClient;
-import com.bankingsystem.bankaccount.client.NotificationClient;
+import com.bankingsystem.bankaccount.client.CachedCustomerClient;
+import com.bankingsystem.bankaccount.dto.AccountEvent;
+import com.bankingsystem.bankaccount.dto.AccountEventType;
+import com.bankingsystem.bankaccount.dto.AccountStatusChangedEvent;
+import com.bankingsystem.bankaccount.dto.BalanceChangedEvent;
+import com.bankingsystem.bankaccount.dto.BalanceOperation;
+import com.bankingsystem.bankaccount.dto.BalanceOperationResult;
+import com.bankingsystem.bankaccount.dto.BalanceOperationType;
 import com.bankingsystem.bankaccount.dto.BankAccountDto;
 import com.bankingsystem.bankaccount.dto.CreateBankAccountDto;
 import com.bankingsystem.bankaccount.dto.CreateNotificationDto;
 import com.bankingsystem.bankaccount.dto.CustomerDto;
+import com.bankingsystem.bankaccount.dto.TransferResultDto;
 import com.bankingsystem.bankaccount.entity.AccountType;
 import com.bankingsystem.bankaccount.entity.BankAccount;
 import com.bankingsystem.bankaccount.exception.BankAccountAlreadyExistsException;
@@ -17,16 +24,25 @@ import com.bankingsystem.bankaccount.repository.BankAccountRepo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.text.MessageFormat;
+import java.time.LocalDateTime;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -45,8 +61,12 @@ public class BankAccountService {
 
     private final BankAccountRepo bankAccountRepo;
     private final BankAccountMapper bankAccountMapper;
-    private final CustomerClient customerClient;
-    private final NotificationClient notificationClient;
+    private final CachedCustomerClient customerClient;
+    private final OutboxService outboxService;
+    private final LedgerService ledgerService;
+
+    @Value("${bank-account.balance-batch.max-size:1000}")
+    private int maxBalanceBatchSize;
 
     @Transactional
     public BankAccountDto createAccount(CreateBankAccountDto dto) {
@@ -76,25 +96,20 @@ public class BankAccountService {
         bankAccount.setAccountNumber(generateAccountNumber());
 
         BankAccount savedAccount = bankAccountRepo.saveAndFlush(bankAccount);
-
-        try {
-            notificationClient.createNotification(CreateNotificationDto.builder()
-                    .customerId(customer.getId())
-                    .customerEmail(customer.getEmail())
-                    .title("Welcome to Our Platform!")
-                    .type("ACCOUNT")
-                    .message(MessageFormat.format(
-                            NOTIFICATION_ACCOUNT_CREATED,
-                            customer.getUsername(),
-                            savedAccount.getAccountNumber(),
-                            savedAccount.getBalance()))
-                    .build());
-            log.info("Notification sent successfully for customer id {} and account id {}",
-                    customer.getId(), savedAccount.getId());
-        } catch (Exception e) {
-            log.error("Failed to send notification for customer id {} and account id {}",
-                    customer.getId(), savedAccount.getId(), e);
-        }
+        ledgerService.record(savedAccount, savedAccount.getBalance(), null);
+        publishAccountEvent(savedAccount, AccountEventType.ACCOUNT_CREATED, BigDecimal.ZERO, false);
+
+        outboxService.enqueueNotification(CreateNotificationDto.builder()
+                .customerId(customer.getId())
+                .customerEmail(customer.getEmail())
+                .title("Welcome to Our Platform!")
+                .type("ACCOUNT")
+                .message(MessageFormat.format(
+                        NOTIFICATION_ACCOUNT_CREATED,
+                        customer.getUsername(),
+                        savedAccount.getAccountNumber(),
+                        savedAccount.getBalance()))
+                .build());
 
         return bankAccountMapper.toDto(savedAccount);
     }
@@ -116,77 +131,51 @@ public class BankAccountService {
 
     @Transactional
     public void deleteAccount(Long id) {
-        BankAccount bankAccount = bankAccountRepo.findById(id)
-                .orElseThrow(() -> new BankAccountNotFoundException("Bank account not found with id: " + id));
-
-        ApiResponse<CustomerDto> customerResponse = customerClient.getCustomerById(bankAccount.getCustomerId());
-        if (customerResponse == null) {
-            throw new RuntimeException("Customer service is unavailable");
-        } else if (!customerResponse.isSuccess() || customerResponse.getData() == null) {
-            throw new BankAccountNotFoundException("Customer not found with id: " + bankAccount.getCustomerId());
-        }
-
-        CustomerDto customer = customerResponse.getData();
-
-        try {
-            notificationClient.createNotification(CreateNotificationDto.builder()
-                    .customerId(bankAccount.getCustomerId())
-                    .customerEmail(customer.getEmail())
-                    .title("Bank Account Closure Notice")
-                    .type("ACCOUNT")
-                    .message(MessageFormat.format(
-                            NOTIFICATION_ACCOUNT_CLOSED,
-                            customer.getUsername(),
-                            bankAccount.getAccountNumber()))
-                    .build());
-            log.info("Account closure notification sent successfully for customer id {} and account id {}",
-                    customer.getId(), id);
-        } catch (Exception e) {
-            log.error("Failed to send account closure notification for customer id {} and account id {}",
-                    customer.getId(), id, e);
-        }
+        CustomerDto customer = requireCustomer(customerIdOf(id));
+        BankAccount bankAccount = lockAccount(id);
+
+        outboxService.enqueueNotification(CreateNotificationDto.builder()
+                .customerId(bankAccount.getCustomerId())
+                .customerEmail(customer.getEmail())
+                .title("Bank Account Closure Notice")
+                .type("ACCOUNT")
+                .message(MessageFormat.format(
+                        NOTIFICATION_ACCOUNT_CLOSED,
+                        customer.getUsername(),
+                        bankAccount.getAccountNumber()))
+                .build());
+        publishAccountEvent(bankAccount, AccountEventType.ACCOUNT_DELETED,
+                bankAccount.getBalance(), bankAccount.isActive());
 
         bankAccountRepo.deleteById(id);
     }
 
     @Transactional
     public BankAccountDto updateAccount(Long id, BankAccountDto dto) {
-        BankAccount existingAccount = bankAccountRepo.findById(id)
-                .orElseThrow(() -> new BankAccountNotFoundException("Bank account not found with id: " + id));
+        CustomerDto customer = requireCustomer(customerIdOf(id));
+        BankAccount existingAccount = lockAccount(id);
 
+        BigDecimal previousBalance = existingAccount.getBalance();
+        boolean previouslyActive = existingAccount.isActive();
         existingAccount.setBalance(dto.getBalance());
         existingAccount.setAccountType(dto.getAccountType());
         existingAccount.setActive(dto.isActive());
 
         BankAccount updatedAccount = bankAccountRepo.save(existingAccount);
-
-        ApiResponse<CustomerDto> customerResponse = customerClient.getCustomerById(existingAccount.getCustomerId());
-        if (customerResponse == null) {
-            throw new RuntimeException("Customer service is unavailable");
-        } else if (!customerResponse.isSuccess() || customerResponse.getData() == null) {
-            throw new BankAccountNotFoundException("Customer not found with id: " + existingAccount.getCustomerId());
-        }
-
-        CustomerDto customer = customerResponse.getData();
-
-        try {
-            notificationClient.createNotification(CreateNotificationDto.builder()
-                    .customerId(customer.getId())
-                    .customerEmail(customer.getEmail())
-                    .title("Bank Account Update Notice")
-                    .type("ACCOUNT")
-                    .message(MessageFormat.format(
-                            NOTIFICATION_ACCOUNT_UPDATED,
-                            customer.getUsername(),
-                            existingAccount.getAccountNumber(),
-                            existingAccount.getBalance()))
-                    .build());
-            log.info("Account update notification sent successfully for customer id {} and account id {}",
-                    customer.getId(), id);
-        } catch (Exception e) {
-            log.error("Failed to send account update notification for customer id {} and account id {}",
-                    customer.getId(), id, e);
-        }
+        ledgerService.record(updatedAccount, balanceChange(previousBalance, updatedAccount.getBalance()), null);
+        publishAccountEvent(updatedAccount, AccountEventType.ACCOUNT_UPDATED, previousBalance, previouslyActive);
+
+        outboxService.enqueueNotification(CreateNotificationDto.builder()
+                .customerId(customer.getId())
+                .customerEmail(customer.getEmail())
+                .title("Bank Account Update Notice")
+                .type("ACCOUNT")
+                .message(MessageFormat.format(
+                        NOTIFICATION_ACCOUNT_UPDATED,
+                        customer.getUsername(),
+                        existingAccount.getAccountNumber(),
+                        existingAccount.getBalance()))
+                .build());
 
         return bankAccountMapper.toDto(updatedAccount);
     }
@@ -234,103 +223,358 @@ public class BankAccountService {
         if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
             throw new InvalidBankAccountOperationException("New balance cannot be negative");
         }
-        BankAccount bankAccount = bankAccountRepo.findById(id)
-                .orElseThrow(() -> new BankAccountNotFoundException("Bank account not found with id: " + id));
+        CustomerDto customer = requireCustomer(customerIdOf(id));
+        BankAccount bankAccount = lockAccount(id);
 
+        BigDecimal previousBalance = bankAccount.getBalance();
         bankAccount.setBalance(newBalance);
         BankAccount updatedAccount = bankAccountRepo.save(bankAccount);
+        ledgerService.record(updatedAccount, balanceChange(previousBalance, newBalance), null);
+        publishAccountEvent(updatedAccount, AccountEventType.ACCOUNT_UPDATED,
+                previousBalance, updatedAccount.isActive());
+
+        outboxService.enqueueNotification(CreateNotificationDto.builder()
+                .customerId(customer.getId())
+                .customerEmail(customer.getEmail())
+                .title("Bank Account Balance Update Notice")
+                .type("ACCOUNT")
+                .message(MessageFormat.format(
+                        NOTIFICATION_ACCOUNT_UPDATED,
+                        customer.getUsername(),
+                        bankAccount.getAccountNumber(),
+                        updatedAccount.getBalance()))
+                .build());
 
-        ApiResponse<CustomerDto> customerResponse = customerClient.getCustomerById(bankAccount.getCustomerId());
-        if (customerResponse == null) {
-            throw new RuntimeException("Customer service is unavailable");
-        } else if (!customerResponse.isSuccess() || customerResponse.getData() == null) {
-            throw new BankAccountNotFoundException("Customer not found with id: " + bankAccount.getCustomerId());
+        return bankAccountMapper.toDto(updatedAccount);
+    }
+
+    @Transactional
+    public BankAccountDto adjustBalance(Long id, BigDecimal delta) {
+        if (delta == null || delta.signum() == 0) {
+            throw new InvalidBankAccountOperationException("Balance adjustment must be a non-zero amount");
         }
-        CustomerDto customer = customerResponse.getData();
 
-        try {
-            notificationClient.createNotification(CreateNotificationDto.builder()
-                    .customerId(customer.getId())
-                    .customerEmail(customer.getEmail())
-                    .title("Bank Account Balance Update Notice")
-                    .type("ACCOUNT")
-                    .message(MessageFormat.format(
-                            NOTIFICATION_ACCOUNT_UPDATED,
-                            customer.getUsername(),
-                            bankAccount.getAccountNumber(),
-                            updatedAccount.getBalance()))
-                    .build());
-            log.info("Balance update notification sent successfully for customer id {} and account id {}",
-                    customer.getId(), id);
-        } catch (Exception e) {
-            log.error("Failed to send balance update notification for customer id {} and account id {}",
-                    customer.getId(), id, e);
+        int updatedRows = bankAccountRepo.applyBalanceDelta(id, delta);
+
+        BankAccount bankAccount = bankAccountRepo.findById(id)
+                .orElseThrow(() -> new BankAccountNotFoundException("Bank account not found with id: " + id));
+
+        if (updatedRows == 0) {
+            if (!bankAccount.isActive()) {
+                throw new InvalidBankAccountOperationException("Bank account with id " + id + " is not active");
+            }
+            throw new InvalidBankAccountOperationException("Insufficient balance in bank account with id: " + id);
         }
 
-        return bankAccountMapper.toDto(updatedAccount);
+        ledgerService.record(bankAccount, delta, null);
+        publishAccountEvent(bankAccount, AccountEventType.ACCOUNT_UPDATED,
+                bankAccount.getBalance().subtract(delta), bankAccount.isActive());
+
+        log.info("Adjusted balance of account id {} by {}", id, delta);
+
+        return bankAccountMapper.toDto(bankAccount);
+    }
+
+    @Transactional
+    public TransferResultDto transferFunds(Long fromAccountId, Long toAccountId, BigDecimal amount) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new InvalidBankAccountOperationException("Transfer amount must be greater than zero");
+        }
+        if (fromAccountId.equals(toAccountId)) {
+            throw new InvalidBankAccountOperationException("Cannot transfer to the same account");
+        }
+
+        // Lock rows in ascending id order so concurrent opposite transfers cannot deadlock
+        Long firstId = Math.min(fromAccountId, toAccountId);
+        Long secondId = Math.max(fromAccountId, toAccountId);
+        BankAccount first = lockAccount(firstId);
+        BankAccount second = lockAccount(secondId);
+
+        BankAccount fromAccount = first.getId().equals(fromAccountId) ? first : second;
+        BankAccount toAccount = first.getId().equals(fromAccountId) ? second : first;
+
+        if (!fromAccount.isActive()) {
+            throw new InvalidBankAccountOperationException("Bank account with id " + fromAccountId + " is not active");
+        }
+        if (!toAccount.isActive()) {
+            throw new InvalidBankAccountOperationException("Bank account with id " + toAccountId + " is not active");
+        }
+        if (fromAccount.getBalance().compareTo(amount) < 0) {
+            throw new InvalidBankAccountOperationException(
+                    "Insufficient balance in bank account with id: " + fromAccountId);
+        }
+
+        BigDecimal fromPreviousBalance = fromAccount.getBalance();
+        BigDecimal toPreviousBalance = toAccount.getBalance();
+        fromAccount.setBalance(fromAccount.getBalance().subtract(amount));
+        toAccount.setBalance(toAccount.getBalance().add(amount));
+        ledgerService.record(fromAccount, amount.negate(), toAccountId);
+        ledgerService.record(toAccount, amount, fromAccountId);
+        publishAccountEvent(fromAccount, AccountEventType.ACCOUNT_UPDATED, fromPreviousBalance, true);
+        publishAccountEvent(toAccount, AccountEventType.ACCOUNT_UPDATED, toPreviousBalance, true);
+
+        log.info("Transferred {} from account id {} to account id {}", amount, fromAccountId, toAccountId);
+
+        return TransferResultDto.builder()
+                .fromAccount(bankAccountMapper.toDto(fromAccount))
+                .toAccount(bankAccountMapper.toDto(toAccount))
+                .build();
+    }
+
+    @Transactional
+    public List<BalanceOperationResult> applyBalanceBatch(List<BalanceOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new InvalidBankAccountOperationException("At least one balance operation is required");
+        }
+        if (operations.size() > maxBalanceBatchSize) {
+            throw new InvalidBankAccountOperationException(
+                    "Cannot apply more than " + maxBalanceBatchSize + " balance operations in one request");
+        }
+
+        Set<Long> accountIds = new HashSet<>();
+        for (BalanceOperation operation : operations) {
+            if (operation.getAccountId() != null) {
+                accountIds.add(operation.getAccountId());
+            }
+            if (operation.getToAccountId() != null) {
+                accountIds.add(operation.getToAccountId());
+            }
+        }
+
+        // Every involved row is locked once, in ascending id order, then all operations are applied in memory
+        Map<Long, BankAccount> accounts = bankAccountRepo.findAllByIdForUpdate(accountIds)
+                .stream()
+                .collect(Collectors.toMap(BankAccount::getId, Function.identity()));
+        Map<Long, BigDecimal> openingBalances = new HashMap<>();
+        accounts.values().forEach(account -> openingBalances.put(account.getId(), account.getBalance()));
+
+        List<BalanceOperationResult> results = new ArrayList<>(operations.size());
+        Set<Long> changedAccountIds = new LinkedHashSet<>();
+        for (int index = 0; index < operations.size(); index++) {
+            BalanceOperationResult result = applyBalanceOperation(index, operations.get(index), accounts);
+            if (result.isSuccess()) {
+                changedAccountIds.add(result.getAccount().getId());
+                if (result.getToAccount() != null) {
+                    changedAccountIds.add(result.getToAccount().getId());
+                }
+            }
+            results.add(result);
+        }
+
+        // One event per account carrying its final balance, however many operations touched it
+        changedAccountIds.forEach(accountId -> publishAccountEvent(accounts.get(accountId),
+                AccountEventType.ACCOUNT_UPDATED, openingBalances.get(accountId), true));
+
+        log.info("Applied balance batch of {} operations over {} accounts", operations.size(), accounts.size());
+        return results;
+    }
+
+    private BalanceOperationResult applyBalanceOperation(int index, BalanceOperation operation,
+            Map<Long, BankAccount> accounts) {
+        BigDecimal amount = operation.getAmount();
+        if (operation.getType() == null || amount == null || amount.signum() == 0) {
+            return failedOperation(index, "Operation type and a non-zero amount are required");
+        }
+
+        BankAccount account = accounts.get(operation.getAccountId());
+        if (account == null) {
+            return failedOperation(index, "Bank account not found with id: " + operation.getAccountId());
+        }
+        if (!account.isActive()) {
+            return failedOperation(index, "Bank account with id " + account.getId() + " is not active");
+        }
+
+        if (operation.getType() == BalanceOperationType.ADJUST) {
+            BigDecimal newBalance = account.getBalance().add(amount);
+            if (newBalance.signum() < 0) {
+                return failedOperation(index, "Insufficient balance in bank account with id: " + account.getId());
+            }
+            account.setBalance(newBalance);
+            ledgerService.record(account, amount, null);
+            return BalanceOperationResult.builder()
+                    .index(index)
+                    .success(true)
+                    .message("Balance adjusted")
+                    .account(bankAccountMapper.toDto(account))
+                    .build();
+        }
+
+        if (amount.signum() < 0) {
+            return failedOperation(index, "Transfer amount must be greater than zero");
+        }
+        BankAccount toAccount = accounts.get(operation.getToAccountId());
+        if (toAccount == null) {
+            return failedOperation(index, "Bank account not found with id: " + operation.getToAccountId());
+        }
+        if (toAccount.getId().equals(account.getId())) {
+            return failedOperation(index, "Cannot transfer to the same account");
+        }
+        if (!toAccount.isActive()) {
+            return failedOperation(index, "Bank account with id " + toAccount.getId() + " is not active");
+        }
+        if (account.getBalance().compareTo(amount) < 0) {
+            return failedOperation(index, "Insufficient balance in bank account with id: " + account.getId());
+        }
+
+        account.setBalance(account.getBalance().subtract(amount));
+        toAccount.setBalance(toAccount.getBalance().add(amount));
+        ledgerService.record(account, amount.negate(), toAccount.getId());
+        ledgerService.record(toAccount, amount, account.getId());
+        return BalanceOperationResult.builder()
+                .index(index)
+                .success(true)
+                .message("Funds transferred")
+                .account(bankAccountMapper.toDto(account))
+                .toAccount(bankAccountMapper.toDto(toAccount))
+                .build();
+    }
+
+    private BalanceOperationResult failedOperation(int index, String message) {
+        return BalanceOperationResult.builder()
+                .index(index)
+                .success(false)
+                .message(message)
+                .build();
     }
 
     @Transactional
     public BankAccountDto activateAccount(Long id) {
-        BankAccount bankAccount = bankAccountRepo.findById(id)
-                .orElseThrow(() -> new BankAccountNotFoundException("Bank account not found with id: " + id));
+        CustomerDto customer = findCustomerForNotification(customerIdOf(id), id);
+        BankAccount bankAccount = lockAccount(id);
 
+        boolean previouslyActive = bankAccount.isActive();
         bankAccount.setActive(true);
         BankAccount updatedAccount = bankAccountRepo.save(bankAccount);
 
-        sendAccountStatusNotification(updatedAccount, true);
+        publishAccountEvent(updatedAccount, AccountEventType.ACCOUNT_UPDATED,
+                updatedAccount.getBalance(), previouslyActive);
+        sendAccountStatusNotification(updatedAccount, customer, true);
 
         return bankAccountMapper.toDto(updatedAccount);
     }
 
     @Transactional
     public BankAccountDto deactivateAccount(Long id) {
-        BankAccount bankAccount = bankAccountRepo.findById(id)
-                .orElseThrow(() -> new BankAccountNotFoundException("Bank account not found with id: " + id));
+        CustomerDto customer = findCustomerForNotification(customerIdOf(id), id);
+        BankAccount bankAccount = lockAccount(id);
 
+        boolean previouslyActive = bankAccount.isActive();
         bankAccount.setActive(false);
         BankAccount updatedAccount = bankAccountRepo.save(bankAccount);
 
-        sendAccountStatusNotification(updatedAccount, false);
+        publishAccountEvent(updatedAccount, AccountEventType.ACCOUNT_UPDATED,
+                updatedAccount.getBalance(), previouslyActive);
+        sendAccountStatusNotification(updatedAccount, customer, false);
 
         return bankAccountMapper.toDto(updatedAccount);
     }
 
-    @Async
-    private void sendAccountStatusNotification(BankAccount account, boolean activated) {
-        ApiResponse<CustomerDto> customerResponse = customerClient.getCustomerById(account.getCustomerId());
+    private CustomerDto findCustomerForNotification(Long customerId, Long accountId) {
+        ApiResponse<CustomerDto> customerResponse = customerClient.getCustomerById(customerId);
         if (customerResponse == null) {
             log.error("Failed to send notification: Customer service unavailable for customer id {} and account id {}",
-                    account.getCustomerId(), account.getId());
-            return;
+                    customerId, accountId);
+            return null;
         } else if (!customerResponse.isSuccess() || customerResponse.getData() == null) {
             log.error("Failed to send notification: Customer not found with id {} for account id {}",
-                    account.getCustomerId(), account.getId());
-            return;
+                    customerId, accountId);
+            return null;
         }
-        CustomerDto customer = customerResponse.getData();
+        return customerResponse.getData();
+    }
 
+    private void sendAccountStatusNotification(BankAccount account, CustomerDto customer, boolean activated) {
+        if (customer == null) {
+            return;
+        }
         String status = activated ? "activated" : "deactivated";
         String title = "Bank Account " + (activated ? "Activation" : "Deactivation") + " Notice";
 
-        try {
-            notificationClient.createNotification(CreateNotificationDto.builder()
-                    .customerId(customer.getId())
-                    .customerEmail(customer.getEmail())
-                    .title(title)
-                    .type("ACCOUNT")
-                    .message(MessageFormat.format(
-                            NOTIFICATION_ACCOUNT_STATUS,
-                            customer.getUsername(),
-                            account.getAccountNumber(),
-                            status))
+        outboxService.enqueueNotification(CreateNotificationDto.builder()
+                .customerId(customer.getId())
+                .customerEmail(customer.getEmail())
+                .title(title)
+                .type("ACCOUNT")
+                .message(MessageFormat.format(
+                        NOTIFICATION_ACCOUNT_STATUS,
+                        customer.getUsername(),
+                        account.getAccountNumber(),
+                        status))
+                .build());
+    }
+
+    // Each published change bumps the account's event version under the row lock, so consumers can order
+    // and deduplicate per account; balance and status events share the version of the change that caused them
+    private void publishAccountEvent(BankAccount account, AccountEventType eventType,
+            BigDecimal previousBalance, boolean previouslyActive) {
+        account.setEventVersion(account.getEventVersion() + 1);
+        LocalDateTime occurredAt = LocalDateTime.now();
+
+        outboxService.enqueueAccountEvent(AccountEvent.builder()
+                .accountId(account.getId())
+                .eventType(eventType)
+                .version(account.getEventVersion())
+                .customerId(account.getCustomerId())
+                .accountNumber(account.getAccountNumber())
+                .accountType(account.getAccountType())
+                .balance(account.getBalance())
+                .active(account.isActive())
+                .occurredAt(occurredAt)
+                .build());
+
+        if (eventType == AccountEventType.ACCOUNT_DELETED) {
+            return;
+        }
+
+        BigDecimal delta = balanceChange(previousBalance, account.getBalance());
+        if (delta.signum() != 0) {
+            outboxService.enqueueBalanceChanged(BalanceChangedEvent.builder()
+                    .accountId(account.getId())
+                    .version(account.getEventVersion())
+                    .customerId(account.getCustomerId())
+                    .previousBalance(previousBalance)
+                    .balance(account.getBalance())
+                    .delta(delta)
+                    .occurredAt(occurredAt)
                     .build());
-            log.info("Account {} notification sent successfully for customer id {} and account id {}",
-                    status, customer.getId(), account.getId());
-        } catch (Exception e) {
-            log.error("Failed to send account {} notification for customer id {} and account id {}",
-                    status, customer.getId(), account.getId(), e);
         }
+        if (previouslyActive != account.isActive()) {
+            outboxService.enqueueAccountStatusChanged(AccountStatusChangedEvent.builder()
+                    .accountId(account.getId())
+                    .version(account.getEventVersion())
+                    .customerId(account.getCustomerId())
+                    .active(account.isActive())
+                    .occurredAt(occurredAt)
+                    .build());
+        }
+    }
+
+    private BigDecimal balanceChange(BigDecimal previousBalance, BigDecimal newBalance) {
+        BigDecimal before = previousBalance != null ? previousBalance : BigDecimal.ZERO;
+        BigDecimal after = newBalance != null ? newBalance : BigDecimal.ZERO;
+        return after.subtract(before);
+    }
+
+    private CustomerDto requireCustomer(Long customerId) {
+        ApiResponse<CustomerDto> customerResponse = customerClient.getCustomerById(customerId);
+        if (customerResponse == null) {
+            throw new RuntimeException("Customer service is unavailable");
+        } else if (!customerResponse.isSuccess() || customerResponse.getData() == null) {
+            throw new BankAccountNotFoundException("Customer not found with id: " + customerId);
+        }
+        return customerResponse.getData();
+    }
+
+    // The customer is looked up remotely before lockAccount, so the row lock is never held across that call.
+    // An account never changes owner, so the id read here still holds once the row is locked.
+    private Long customerIdOf(Long id) {
+        return bankAccountRepo.findCustomerIdById(id)
+                .orElseThrow(() -> new BankAccountNotFoundException("Bank account not found with id: " + id));
+    }
+
+    private BankAccount lockAccount(Long id) {
+        return bankAccountRepo.findByIdForUpdate(id)
+                .orElseThrow(() -> new BankAccountNotFoundException("Bank account not found with id: " + id));
     }
 
     private String generateAccountNumber() {
@@ -0,0 +1,144 @@
+package com.bankingsystem.bankaccount.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingsystem.bankaccount.dto.BalanceReconciliationDto;
+import com.bankingsystem.bankaccount.dto.LedgerEntryDto;
+import com.bankingsystem.bankaccount.entity.BankAccount;
+import com.bankingsystem.bankaccount.entity.LedgerEntry;
+import com.bankingsystem.bankaccount.entity.LedgerEntryType;
+import com.bankingsystem.bankaccount.exception.BankAccountNotFoundException;
+import com.bankingsystem.bankaccount.exception.InvalidBankAccountOperationException;
+import com.bankingsystem.bankaccount.repository.BankAccountRepo;
+import com.bankingsystem.bankaccount.repository.LedgerEntryRepo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerService {
+
+    private final LedgerEntryRepo ledgerEntryRepo;
+    private final BankAccountRepo bankAccountRepo;
+
+    @Value("${bank-account.ledger.max-page-size:500}")
+    private int maxPageSize;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(BankAccount account, BigDecimal delta, Long counterpartyAccountId) {
+        if (delta == null || delta.signum() == 0) {
+            return;
+        }
+        // Callers hold the account row lock, so the counter gives entries their commit order
+        account.setLedgerSequence(account.getLedgerSequence() + 1);
+        ledgerEntryRepo.save(LedgerEntry.builder()
+                .accountId(account.getId())
+                .entrySequence(account.getLedgerSequence())
+                .entryType(delta.signum() > 0 ? LedgerEntryType.CREDIT : LedgerEntryType.DEBIT)
+                .amount(delta.abs())
+                .balanceAfter(account.getBalance() != null ? account.getBalance() : BigDecimal.ZERO)
+                .counterpartyAccountId(counterpartyAccountId)
+                .build());
+    }
+
+    @Transactional(readOnly = true)
+    public List<LedgerEntryDto> getEntries(Long accountId, Long beforeSequence, int size) {
+        requireAccount(accountId);
+        if (size <= 0 || size > maxPageSize) {
+            throw new InvalidBankAccountOperationException("Page size must be between 1 and " + maxPageSize);
+        }
+
+        Pageable page = PageRequest.of(0, size);
+        List<LedgerEntry> entries = beforeSequence == null
+                ? ledgerEntryRepo.findByAccountIdOrderByEntrySequenceDesc(accountId, page)
+                : ledgerEntryRepo.findByAccountIdAndEntrySequenceLessThanOrderByEntrySequenceDesc(accountId,
+                        beforeSequence, page);
+        return entries.stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal getBalanceAt(Long accountId, LocalDateTime at) {
+        requireAccount(accountId);
+        return ledgerEntryRepo.findFirstByAccountIdAndCreatedAtLessThanEqualOrderByCreatedAtDescEntrySequenceDesc(
+                        accountId, at)
+                .map(LedgerEntry::getBalanceAfter)
+                .orElse(BigDecimal.ZERO);
+    }
+
+    @Transactional
+    public BalanceReconciliationDto reconcile(Long accountId, boolean repair) {
+        BankAccount account = bankAccountRepo.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new BankAccountNotFoundException("Bank account not found with id: " + accountId));
+
+        BigDecimal storedBalance = account.getBalance() != null ? account.getBalance() : BigDecimal.ZERO;
+        BigDecimal ledgerBalance = ledgerEntryRepo.findFirstByAccountIdOrderByEntrySequenceDesc(accountId)
+                .map(LedgerEntry::getBalanceAfter)
+                .orElse(BigDecimal.ZERO);
+        BigDecimal entryTotal = ledgerEntryRepo.sumSignedAmounts(accountId);
+
+        boolean ledgerIntact = ledgerBalance.compareTo(entryTotal) == 0;
+        boolean consistent = ledgerIntact && storedBalance.compareTo(ledgerBalance) == 0;
+        boolean repaired = false;
+
+        if (!consistent) {
+            log.warn("Ledger mismatch for account id {}: stored {}, ledger {}, entry total {}",
+                    accountId, storedBalance, ledgerBalance, entryTotal);
+            if (repair) {
+                // Only the account row is rebuilt; a ledger that disagrees with itself needs manual review
+                if (!ledgerIntact) {
+                    throw new InvalidBankAccountOperationException(
+                            "Ledger for account id " + accountId + " is inconsistent and cannot be used for repair");
+                }
+                // Entries written before the per-account sequence existed have no reliable order
+                if (ledgerEntryRepo.existsByAccountIdAndSequenceInferredTrue(accountId)) {
+                    throw new InvalidBankAccountOperationException(
+                            "Ledger order for account id " + accountId + " is ambiguous and cannot be used for repair");
+                }
+                account.setBalance(ledgerBalance);
+                repaired = true;
+                log.info("Rebuilt balance of account id {} from ledger: {}", accountId, ledgerBalance);
+            }
+        }
+
+        return BalanceReconciliationDto.builder()
+                .accountId(accountId)
+                .storedBalance(storedBalance)
+                .ledgerBalance(ledgerBalance)
+                .entryTotal(entryTotal)
+                .consistent(consistent)
+                .repaired(repaired)
+                .build();
+    }
+
+    private void requireAccount(Long accountId) {
+        if (!bankAccountRepo.existsById(accountId)) {
+            throw new BankAccountNotFoundException("Bank account not found with id: " + accountId);
+        }
+    }
+
+    private LedgerEntryDto toDto(LedgerEntry entry) {
+        return LedgerEntryDto.builder()
+                .id(entry.getId())
+                .accountId(entry.getAccountId())
+                .entrySequence(entry.getEntrySequence())
+                .entryType(entry.getEntryType())
+                .amount(entry.getAmount())
+                .balanceAfter(entry.getBalanceAfter())
+                .counterpartyAccountId(entry.getCounterpartyAccountId())
+                .createdAt(entry.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.bankingsystem.bankaccount.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingsystem.bankaccount.config.OutboxConfig;
+import com.bankingsystem.bankaccount.dto.AccountEvent;
+import com.bankingsystem.bankaccount.dto.AccountStatusChangedEvent;
+import com.bankingsystem.bankaccount.dto.BalanceChangedEvent;
+import com.bankingsystem.bankaccount.dto.CreateNotificationDto;
+import com.bankingsystem.bankaccount.entity.OutboxMessage;
+import com.bankingsystem.bankaccount.repository.OutboxMessageRepo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxMessageRepo outboxMessageRepo;
+    private final OutboxConfig outboxConfig;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String routingKey, Object payload) {
+        enqueue(routingKey, null, payload);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String routingKey, String orderingKey, Object payload) {
+        try {
+            outboxMessageRepo.save(OutboxMessage.builder()
+                    .routingKey(routingKey)
+                    .orderingKey(orderingKey)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload for routing key " + routingKey, e);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueNotification(CreateNotificationDto notification) {
+        enqueue(outboxConfig.getNotificationRequestRoutingKey(), notification);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAccountEvent(AccountEvent event) {
+        String routingKey = switch (event.getEventType()) {
+            case ACCOUNT_CREATED -> outboxConfig.getAccountCreatedRoutingKey();
+            case ACCOUNT_UPDATED -> outboxConfig.getAccountUpdatedRoutingKey();
+            case ACCOUNT_DELETED -> outboxConfig.getAccountDeletedRoutingKey();
+        };
+        enqueue(routingKey, String.valueOf(event.getAccountId()), event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueBalanceChanged(BalanceChangedEvent event) {
+        enqueue(outboxConfig.getBalanceChangedRoutingKey(), String.valueOf(event.getAccountId()), event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAccountStatusChanged(AccountStatusChangedEvent event) {
+        enqueue(outboxConfig.getAccountStatusChangedRoutingKey(), String.valueOf(event.getAccountId()), event);
+    }
+}
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS bank_accounts (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_id    BIGINT,
+    account_number VARCHAR(255) NOT NULL UNIQUE,
+    balance        NUMERIC(38, 2),
+    account_type   VARCHAR(255),
+    active         BOOLEAN      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    routing_key VARCHAR(255) NOT NULL,
+    payload     TEXT         NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    attempts    INTEGER      NOT NULL
+);
@@ -0,0 +1,3 @@
+-- findByCustomerId and findByCustomerIdAndAccountType
+CREATE INDEX IF NOT EXISTS idx_bank_accounts_customer_id_account_type
+    ON bank_accounts (customer_id, account_type);
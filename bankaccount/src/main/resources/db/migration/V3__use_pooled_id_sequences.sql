@@ -0,0 +1,9 @@
+CREATE SEQUENCE IF NOT EXISTS bank_accounts_pooled_seq INCREMENT BY 50;
+SELECT setval('bank_accounts_pooled_seq', COALESCE(MAX(id), 0) + 50, false) FROM bank_accounts;
+ALTER TABLE bank_accounts ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE bank_accounts ALTER COLUMN id SET DEFAULT nextval('bank_accounts_pooled_seq');
+
+CREATE SEQUENCE IF NOT EXISTS outbox_messages_pooled_seq INCREMENT BY 50;
+SELECT setval('outbox_messages_pooled_seq', COALESCE(MAX(id), 0) + 50, false) FROM outbox_messages;
+ALTER TABLE outbox_messages ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE outbox_messages ALTER COLUMN id SET DEFAULT nextval('outbox_messages_pooled_seq');
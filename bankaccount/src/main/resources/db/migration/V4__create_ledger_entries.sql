@@ -0,0 +1,25 @@
+CREATE SEQUENCE IF NOT EXISTS ledger_entries_pooled_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS ledger_entries (
+    id                      BIGINT         NOT NULL DEFAULT nextval('ledger_entries_pooled_seq') PRIMARY KEY,
+    account_id              BIGINT         NOT NULL,
+    entry_type              VARCHAR(255)   NOT NULL,
+    amount                  NUMERIC(38, 2) NOT NULL,
+    balance_after           NUMERIC(38, 2) NOT NULL,
+    counterparty_account_id BIGINT,
+    created_at              TIMESTAMP(6)   NOT NULL
+);
+
+-- Statement pages walk an account's entries newest first by id
+CREATE INDEX IF NOT EXISTS idx_ledger_entries_account_id_id
+    ON ledger_entries (account_id, id DESC);
+
+-- Balance-at-date reads the last entry at or before a point in time
+CREATE INDEX IF NOT EXISTS idx_ledger_entries_account_id_created_at
+    ON ledger_entries (account_id, created_at DESC, id DESC);
+
+-- Opening entries so every existing balance is backed by the ledger
+INSERT INTO ledger_entries (account_id, entry_type, amount, balance_after, created_at)
+SELECT id, 'CREDIT', balance, balance, now()
+FROM bank_accounts
+WHERE balance > 0;
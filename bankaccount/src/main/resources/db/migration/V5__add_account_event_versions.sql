@@ -0,0 +1,3 @@
+ALTER TABLE bank_accounts ADD COLUMN IF NOT EXISTS event_version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE outbox_messages ADD COLUMN IF NOT EXISTS ordering_key VARCHAR(255);
@@ -0,0 +1,31 @@
+ALTER TABLE bank_accounts ADD COLUMN IF NOT EXISTS ledger_sequence BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE ledger_entries ADD COLUMN IF NOT EXISTS entry_sequence BIGINT;
+ALTER TABLE ledger_entries ADD COLUMN IF NOT EXISTS sequence_inferred BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Existing entries are numbered by created_at, id. Neither proves commit order, so accounts with more
+-- than one such entry are flagged and excluded from automatic repair
+UPDATE ledger_entries e
+SET entry_sequence = n.seq,
+    sequence_inferred = n.entries > 1
+FROM (SELECT id,
+             ROW_NUMBER() OVER (PARTITION BY account_id ORDER BY created_at, id) AS seq,
+             COUNT(*) OVER (PARTITION BY account_id) AS entries
+      FROM ledger_entries) n
+WHERE e.id = n.id;
+
+UPDATE bank_accounts a
+SET ledger_sequence = m.last_seq
+FROM (SELECT account_id, MAX(entry_sequence) AS last_seq FROM ledger_entries GROUP BY account_id) m
+WHERE a.id = m.account_id;
+
+ALTER TABLE ledger_entries ALTER COLUMN entry_sequence SET NOT NULL;
+
+-- Statement pages and the latest-balance read walk an account's entries newest first by sequence
+DROP INDEX IF EXISTS idx_ledger_entries_account_id_id;
+CREATE UNIQUE INDEX IF NOT EXISTS ux_ledger_entries_account_id_entry_sequence
+    ON ledger_entries (account_id, entry_sequence DESC);
+
+DROP INDEX IF EXISTS idx_ledger_entries_account_id_created_at;
+CREATE INDEX IF NOT EXISTS idx_ledger_entries_account_id_created_at
+    ON ledger_entries (account_id, created_at DESC, entry_sequence DESC);
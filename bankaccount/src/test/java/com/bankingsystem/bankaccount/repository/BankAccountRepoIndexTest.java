@@ -0,0 +1,37 @@
+package com.bankingsystem.bankaccount.repository;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+
+import com.bankingsystem.testsupport.AbstractRepoIndexTest;
+
+class BankAccountRepoIndexTest extends AbstractRepoIndexTest {
+
+    @Test
+    void findByCustomerIdUsesCustomerIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM bank_accounts WHERE customer_id = 42");
+    }
+
+    @Test
+    void findByCustomerIdAndAccountTypeUsesCustomerIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM bank_accounts WHERE customer_id = 42 AND account_type = 'SAVINGS'");
+    }
+
+    @Test
+    void findByAccountNumberUsesUniqueIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM bank_accounts WHERE account_number = 'ACC-2026-000042'");
+    }
+
+    @Test
+    void ledgerPageUsesEntrySequenceIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM ledger_entries WHERE account_id = 42 AND entry_sequence < 100 "
+                + "ORDER BY entry_sequence DESC LIMIT 50");
+    }
+
+    @Test
+    void ledgerBalanceAtUsesCreatedAtIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM ledger_entries WHERE account_id = 42 AND created_at <= '2026-01-31' "
+                + "ORDER BY created_at DESC, entry_sequence DESC LIMIT 1");
+    }
+}
@@ -0,0 +1,160 @@
+package com.bankingsystem.card.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.bankingsystem.card.dto.transactions.CustomerBatchRequest;
+import com.bankingsystem.card.dto.transactions.CustomerDto;
+import com.bankingsystem.card.helper.ApiResponse;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class CustomerBatchLoader {
+
+    private final CustomerClient customerClient;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final long timeoutMs;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService dispatcher;
+
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<ApiResponse<CustomerDto>>> pending = new HashMap<>();
+
+    public CustomerBatchLoader(CustomerClient customerClient,
+                               @Value("${customer.batch.window-ms:5}") long windowMs,
+                               @Value("${customer.batch.max-size:100}") int maxBatchSize,
+                               @Value("${customer.batch.timeout-ms:5000}") long timeoutMs) {
+        this.customerClient = customerClient;
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMs = timeoutMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "customer-batch-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The scheduler only cuts batches; the blocking Feign call runs elsewhere so one slow batch
+        // cannot hold back the windows behind it
+        this.dispatcher = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name("customer-batch-dispatch-", 0)
+                .factory());
+    }
+
+    public ApiResponse<CustomerDto> load(Long id) {
+        CompletableFuture<ApiResponse<CustomerDto>> future;
+        Map<Long, CompletableFuture<ApiResponse<CustomerDto>>> fullBatch = null;
+
+        synchronized (lock) {
+            future = pending.get(id);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                pending.put(id, future);
+                if (pending.size() == 1) {
+                    scheduler.schedule(this::flushPending, windowMs, TimeUnit.MILLISECONDS);
+                }
+                if (pending.size() >= maxBatchSize) {
+                    fullBatch = pending;
+                    pending = new HashMap<>();
+                }
+            }
+        }
+
+        if (fullBatch != null) {
+            submit(fullBatch);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failure("Interrupted while loading customer with id: " + id);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Batched lookup of customer {} did not complete: {}", id, e.toString());
+            return failure("Customer service unavailable");
+        }
+    }
+
+    private void flushPending() {
+        Map<Long, CompletableFuture<ApiResponse<CustomerDto>>> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+        submit(batch);
+    }
+
+    private void submit(Map<Long, CompletableFuture<ApiResponse<CustomerDto>>> batch) {
+        try {
+            dispatcher.execute(() -> dispatch(batch));
+        } catch (RejectedExecutionException e) {
+            batch.values().forEach(future -> future.complete(failure("Customer service unavailable")));
+        }
+    }
+
+    private void dispatch(Map<Long, CompletableFuture<ApiResponse<CustomerDto>>> batch) {
+        try {
+            ApiResponse<List<CustomerDto>> response = customerClient.getCustomersByIds(CustomerBatchRequest.builder()
+                    .ids(new ArrayList<>(batch.keySet()))
+                    .build());
+
+            if (response == null || !response.isSuccess() || response.getData() == null) {
+                String message = response != null ? response.getMessage() : "Customer service unavailable";
+                batch.values().forEach(future -> future.complete(failure(message)));
+                return;
+            }
+
+            Map<Long, CustomerDto> customers = response.getData().stream()
+                    .collect(Collectors.toMap(CustomerDto::getId, Function.identity(), (first, second) -> first));
+
+            batch.forEach((id, future) -> {
+                CustomerDto customer = customers.get(id);
+                future.complete(customer != null
+                        ? ApiResponse.<CustomerDto>builder()
+                                .success(true)
+                                .message("Customer retrieved successfully")
+                                .data(customer)
+                                .build()
+                        : failure("Customer not found with id: " + id));
+            });
+        } catch (RuntimeException e) {
+            log.error("Batched customer lookup for {} ids failed", batch.size(), e);
+            batch.values().forEach(future -> future.complete(failure("Customer service unavailable")));
+        }
+    }
+
+    private ApiResponse<CustomerDto> failure(String message) {
+        return ApiResponse.<CustomerDto>builder()
+                .success(false)
+                .message(message)
+                .data(null)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+}
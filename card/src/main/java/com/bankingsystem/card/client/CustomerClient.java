@@ -2,11 +2,16 @@ package com.bankingsystem.card.client;
 
 
 import com.bankingsystem.card.client.fallback.CustomerClientFallback;
+import com.bankingsystem.card.dto.transactions.CustomerBatchRequest;
 import com.bankingsystem.card.dto.transactions.CustomerDto;
 import com.bankingsystem.card.helper.ApiResponse;
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 @FeignClient(value = "customer-service", fallback = CustomerClientFallback.class)
 public interface CustomerClient {
@@ -15,6 +20,9 @@ public interface CustomerClient {
     ApiResponse<CustomerDto> getCustomerById(@PathVariable Long id);
 
 
+    @PostMapping("/api/v1/customers/batch")
+    ApiResponse<List<CustomerDto>> getCustomersByIds(@RequestBody CustomerBatchRequest request);
+
     @GetMapping("/api/v1/customers/username/{username}")
     ApiResponse<CustomerDto> getCustomerByUsername(@PathVariable String username);
 
@@ -10,8 +10,9 @@ import jakarta.validation.Valid;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
-@FeignClient(name = "transaction-service")
+@FeignClient(name = "transaction-service", path = "/api/v1/transactions")
 public interface TransactionClient {
 
     @PostMapping("/deposit")
@@ -20,6 +21,10 @@ public interface TransactionClient {
     @PostMapping("/withdraw")
     ApiResponse<TransactionResponse> withdraw(@RequestBody WithdrawRequest withdrawRequest);
 
+    @PostMapping("/withdraw")
+    ApiResponse<TransactionResponse> withdraw(@RequestHeader("Idempotency-Key") String idempotencyKey,
+                                              @RequestBody WithdrawRequest withdrawRequest);
+
     @PostMapping("/transfer")
     ApiResponse<TransactionResponse> transfer(@Valid @RequestBody TransferRequest transferRequest);
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.bankingsystem.card.client.fallback;
 
 
+import java.util.List;
+
 import com.bankingsystem.card.client.CustomerClient;
+import com.bankingsystem.card.dto.transactions.CustomerBatchRequest;
 import com.bankingsystem.card.dto.transactions.CustomerDto;
 import com.bankingsystem.card.helper.ApiResponse;
 import org.springframework.stereotype.Component;
@@ -19,6 +22,16 @@ public class CustomerClientFallback implements CustomerClient {
                         .build();
     }
 
+    @Override
+    public ApiResponse<List<CustomerDto>> getCustomersByIds(CustomerBatchRequest request) {
+        return
+                ApiResponse.<List<CustomerDto>>builder()
+                        .success(false)
+                        .message("Customer service unavailable")
+                        .data(null)
+                        .build();
+    }
+
     @Override
     public ApiResponse<CustomerDto> getCustomerByUsername(String username) {
         return
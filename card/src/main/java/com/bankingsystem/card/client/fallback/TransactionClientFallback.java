@@ -25,6 +25,12 @@ public class TransactionClientFallback implements TransactionClient {
         return failureResponse("Withdraw service is unavailable");
     }
 
+    @Override
+    public ApiResponse<TransactionResponse> withdraw(String idempotencyKey, WithdrawRequest withdrawRequest) {
+        log.error("Fallback: withdraw {} failed for amount {}", idempotencyKey, withdrawRequest.getAmount());
+        return failureResponse("Withdraw service is unavailable");
+    }
+
     @Override
     public ApiResponse<TransactionResponse> transfer(TransferRequest transferRequest) {
         log.error("Fallback: transfer failed from account {} to account {} for amount {}",
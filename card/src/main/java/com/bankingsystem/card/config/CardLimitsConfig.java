@@ -0,0 +1,54 @@
+package com.bankingsystem.card.config;
+
+import java.math.BigDecimal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import com.bankingsystem.card.entity.CardType;
+
+@Configuration
+public class CardLimitsConfig {
+
+    @Value("${card.limits.defaults.debit.daily-amount:5000}")
+    private BigDecimal debitDailyAmount;
+
+    @Value("${card.limits.defaults.debit.hourly-count:20}")
+    private int debitHourlyCount;
+
+    @Value("${card.limits.defaults.credit.daily-amount:10000}")
+    private BigDecimal creditDailyAmount;
+
+    @Value("${card.limits.defaults.credit.hourly-count:30}")
+    private int creditHourlyCount;
+
+    @Value("${card.limits.defaults.payroll.daily-amount:3000}")
+    private BigDecimal payrollDailyAmount;
+
+    @Value("${card.limits.defaults.payroll.hourly-count:15}")
+    private int payrollHourlyCount;
+
+    @Value("${card.limits.defaults.prepaid.daily-amount:1000}")
+    private BigDecimal prepaidDailyAmount;
+
+    @Value("${card.limits.defaults.prepaid.hourly-count:10}")
+    private int prepaidHourlyCount;
+
+    public BigDecimal getDefaultDailyAmount(CardType cardType) {
+        return switch (cardType) {
+            case DEBIT -> debitDailyAmount;
+            case CREDIT -> creditDailyAmount;
+            case PAYROLL -> payrollDailyAmount;
+            case PREPAID -> prepaidDailyAmount;
+        };
+    }
+
+    public int getDefaultHourlyCount(CardType cardType) {
+        return switch (cardType) {
+            case DEBIT -> debitHourlyCount;
+            case CREDIT -> creditHourlyCount;
+            case PAYROLL -> payrollHourlyCount;
+            case PREPAID -> prepaidHourlyCount;
+        };
+    }
+}
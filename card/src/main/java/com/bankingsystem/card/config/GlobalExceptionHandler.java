@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.bankingsystem.card.exception.CardAlreadyExistsException;
+import com.bankingsystem.card.exception.CardLimitExceededException;
 import com.bankingsystem.card.exception.CardNotFoundException;
 
 @ControllerAdvice
@@ -21,6 +22,11 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(CardLimitExceededException.class)
+    public ResponseEntity<String> handleCardLimitExceededException(CardLimitExceededException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGeneralException(Exception ex) {
         return new ResponseEntity<>("Something went wrong: " + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -0,0 +1,50 @@
+package com.bankingsystem.card.config;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboxConfig {
+
+    @Value("${rabbitmq.exchanges.internal}")
+    private String internalExchange;
+
+    @Value("${rabbitmq.routing-keys.notification-request}")
+    private String notificationRequestRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.card-created}")
+    private String cardCreatedRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.card-updated}")
+    private String cardUpdatedRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.card-deleted}")
+    private String cardDeletedRoutingKey;
+
+    @Bean
+    public TopicExchange internalTopicExchange() {
+        return new TopicExchange(this.internalExchange);
+    }
+
+    public String getInternalExchange() {
+        return internalExchange;
+    }
+
+    public String getNotificationRequestRoutingKey() {
+        return notificationRequestRoutingKey;
+    }
+
+    public String getCardCreatedRoutingKey() {
+        return cardCreatedRoutingKey;
+    }
+
+    public String getCardUpdatedRoutingKey() {
+        return cardUpdatedRoutingKey;
+    }
+
+    public String getCardDeletedRoutingKey() {
+        return cardDeletedRoutingKey;
+    }
+}
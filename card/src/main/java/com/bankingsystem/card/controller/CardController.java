@@ -2,6 +2,7 @@ package com.bankingsystem.card.controller;
 
 import java.util.List;
 
+import com.bankingsystem.card.service.CardAuthorizationService;
 import com.bankingsystem.card.service.CardService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +16,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.bankingsystem.card.dto.CardAuthorizationRequest;
+import com.bankingsystem.card.dto.CardAuthorizationResponse;
+import com.bankingsystem.card.dto.CardLimitsRequest;
 import com.bankingsystem.card.dto.CardRequestDto;
 import com.bankingsystem.card.dto.CardResponse;
 import com.bankingsystem.card.dto.TransactionResponse;
@@ -30,6 +34,7 @@ import lombok.RequiredArgsConstructor;
 public class CardController {
 
     private final CardService cardService;
+    private final CardAuthorizationService cardAuthorizationService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<CardResponse>> createCard(@RequestBody CardRequestDto request) {
@@ -42,6 +47,18 @@ public class CardController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @PostMapping("/authorize")
+    public ResponseEntity<ApiResponse<CardAuthorizationResponse>> authorize(
+            @RequestBody CardAuthorizationRequest request) {
+        CardAuthorizationResponse authorization = cardAuthorizationService.authorize(request);
+        ApiResponse<CardAuthorizationResponse> response = ApiResponse.<CardAuthorizationResponse>builder()
+                .success(authorization.isApproved())
+                .message(authorization.getMessage())
+                .data(authorization)
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<CardResponse>> getCardById(@PathVariable Long id) {
         CardResponse cardResponse = cardService.getCardById(id);
@@ -107,6 +124,19 @@ public class CardController {
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping("/{id}/limits")
+    public ResponseEntity<ApiResponse<CardResponse>> updateCardLimits(
+            @PathVariable Long id,
+            @RequestBody CardLimitsRequest request) {
+        CardResponse updatedCard = cardService.updateCardLimits(id, request);
+        ApiResponse<CardResponse> response = ApiResponse.<CardResponse>builder()
+                .success(true)
+                .message("Card limits updated successfully.")
+                .data(updatedCard)
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/{oldCardId}/regenerate")
     public ResponseEntity<ApiResponse<CardResponse>> regenerateCard(@PathVariable Long oldCardId) {
         CardResponse newCard = cardService.regenerateCard(oldCardId);
@@ -0,0 +1,23 @@
+package com.bankingsystem.card.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountEvent {
+
+    private Long accountId;
+
+    private String eventType;
+
+    private long version;
+
+    private LocalDateTime occurredAt;
+}
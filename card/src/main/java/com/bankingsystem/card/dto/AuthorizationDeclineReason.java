@@ -0,0 +1,11 @@
+package com.bankingsystem.card.dto;
+
+public enum AuthorizationDeclineReason {
+    CARD_NOT_FOUND,
+    CARD_NOT_ACTIVE,
+    CARD_EXPIRED,
+    DAILY_AMOUNT_LIMIT_EXCEEDED,
+    HOURLY_COUNT_LIMIT_EXCEEDED,
+    DEBIT_DECLINED,
+    ISSUER_UNAVAILABLE
+}
@@ -0,0 +1,32 @@
+package com.bankingsystem.card.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CardAuthorizationRequest {
+
+    @NotBlank(message = "Card number is required")
+    private String cardNumber;
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be greater than 0")
+    @Digits(integer = 16, fraction = 2, message = "Invalid amount format")
+    private BigDecimal amount;
+
+    // Merchant-side reference; retries with the same reference are debited at most once
+    @Size(max = 255, message = "Reference must be at most 255 characters")
+    private String reference;
+}
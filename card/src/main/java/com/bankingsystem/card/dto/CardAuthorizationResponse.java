@@ -0,0 +1,31 @@
+package com.bankingsystem.card.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CardAuthorizationResponse {
+
+    private boolean approved;
+
+    private AuthorizationDeclineReason declineReason;
+
+    private String message;
+
+    private Long cardId;
+
+    private Long accountId;
+
+    private BigDecimal amount;
+
+    private String transactionId;
+
+    private BigDecimal balanceAfter;
+}
@@ -0,0 +1,33 @@
+package com.bankingsystem.card.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.bankingsystem.card.entity.CardStatus;
+import com.bankingsystem.card.entity.CardType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CardAuthorizationState {
+
+    private Long cardId;
+
+    private Long accountId;
+
+    private CardStatus status;
+
+    private LocalDate expiryDate;
+
+    private CardType cardType;
+
+    private BigDecimal dailyAmountLimit;
+
+    private Integer hourlyCountLimit;
+}
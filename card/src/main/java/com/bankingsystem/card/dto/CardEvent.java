@@ -0,0 +1,27 @@
+package com.bankingsystem.card.dto;
+
+import java.time.LocalDateTime;
+
+import com.bankingsystem.card.entity.CardStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardEvent {
+
+    private Long cardId;
+
+    private CardEventType eventType;
+
+    private Long accountId;
+
+    private CardStatus status;
+
+    private LocalDateTime occurredAt;
+}
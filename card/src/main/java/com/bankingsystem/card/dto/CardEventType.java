@@ -0,0 +1,7 @@
+package com.bankingsystem.card.dto;
+
+public enum CardEventType {
+    CARD_CREATED,
+    CARD_UPDATED,
+    CARD_DELETED
+}
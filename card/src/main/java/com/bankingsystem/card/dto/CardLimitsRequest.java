@@ -0,0 +1,24 @@
+package com.bankingsystem.card.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CardLimitsRequest {
+
+    // Null clears the override and restores the card type's default
+    @DecimalMin(value = "0.00", message = "Daily amount limit cannot be negative")
+    private BigDecimal dailyAmountLimit;
+
+    @Min(value = 0, message = "Hourly count limit cannot be negative")
+    private Integer hourlyCountLimit;
+}
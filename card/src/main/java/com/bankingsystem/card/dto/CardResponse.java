@@ -1,5 +1,6 @@
 package com.bankingsystem.card.dto;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 import com.bankingsystem.card.entity.CardNetwork;
@@ -24,4 +25,6 @@ public class CardResponse {
     private CardType cardType;
     private CardStatus status;
     private Long accountId;
+    private BigDecimal dailyAmountLimit;
+    private Integer hourlyCountLimit;
 }
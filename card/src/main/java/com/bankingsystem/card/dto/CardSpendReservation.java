@@ -0,0 +1,33 @@
+package com.bankingsystem.card.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CardSpendReservation {
+
+    private Long cardId;
+
+    private long epochHour;
+
+    private long epochMinute;
+
+    private long amountMinor;
+
+    private AuthorizationDeclineReason declineReason;
+
+    // Card and authorization reference the reservation is held under, null when the request had none
+    private String referenceKey;
+
+    // A repeat of an authorization that already holds this reservation; releasing it does nothing
+    private boolean retry;
+
+    public boolean isAccepted() {
+        return declineReason == null;
+    }
+}
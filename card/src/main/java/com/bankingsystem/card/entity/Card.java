@@ -1,5 +1,6 @@
 package com.bankingsystem.card.entity;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 import jakarta.persistence.Column;
@@ -9,6 +10,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,7 +19,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "cards")
+@Table(name = "cards", indexes = {
+        @Index(name = "idx_cards_account_id", columnList = "account_id")
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,7 +29,8 @@ import lombok.NoArgsConstructor;
 public class Card {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_seq")
+    @SequenceGenerator(name = "card_seq", sequenceName = "cards_pooled_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "card_number", nullable = false, unique = true, length = 16)
@@ -53,4 +59,11 @@ public class Card {
     @Column(name = "account_id", nullable = false)
     private Long accountId;
 
+    // Per-card overrides; null falls back to the card type's configured default
+    @Column(name = "daily_amount_limit", precision = 19, scale = 2)
+    private BigDecimal dailyAmountLimit;
+
+    @Column(name = "hourly_count_limit")
+    private Integer hourlyCountLimit;
+
 }
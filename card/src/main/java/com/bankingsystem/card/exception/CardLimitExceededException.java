@@ -0,0 +1,7 @@
+package com.bankingsystem.card.exception;
+
+public class CardLimitExceededException extends RuntimeException {
+    public CardLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,125 @@
+package com.bankingsystem.card.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Sliding windows over fixed ring buffers: 24 hourly buckets for the rolling day and 60 minute buckets for the
+// rolling hour. Buckets are immutable and swapped with CAS, so recording and summing never take a lock and cost
+// the same however busy the card is. Spend not yet persisted is tracked separately in pending rings, so it can be
+// flushed as deltas that add to the shared totals other instances write.
+public class CardSpendWindow {
+
+    public static final String HOUR = "HOUR";
+    public static final String MINUTE = "MINUTE";
+
+    private static final int HOUR_BUCKETS = 24;
+    private static final int MINUTE_BUCKETS = 60;
+
+    private final AtomicReferenceArray<Bucket> hourBuckets = new AtomicReferenceArray<>(HOUR_BUCKETS);
+    private final AtomicReferenceArray<Bucket> minuteBuckets = new AtomicReferenceArray<>(MINUTE_BUCKETS);
+    private final AtomicReferenceArray<Bucket> pendingHourBuckets = new AtomicReferenceArray<>(HOUR_BUCKETS);
+    private final AtomicReferenceArray<Bucket> pendingMinuteBuckets = new AtomicReferenceArray<>(MINUTE_BUCKETS);
+
+    public void add(long epochHour, long epochMinute, long amountMinor) {
+        add(hourBuckets, HOUR_BUCKETS, epochHour, amountMinor, 1);
+        add(minuteBuckets, MINUTE_BUCKETS, epochMinute, amountMinor, 1);
+        add(pendingHourBuckets, HOUR_BUCKETS, epochHour, amountMinor, 1);
+        add(pendingMinuteBuckets, MINUTE_BUCKETS, epochMinute, amountMinor, 1);
+    }
+
+    public void remove(long epochHour, long epochMinute, long amountMinor) {
+        remove(hourBuckets, HOUR_BUCKETS, epochHour, amountMinor);
+        remove(minuteBuckets, MINUTE_BUCKETS, epochMinute, amountMinor);
+        // The reservation may already have been flushed, so its release is persisted as a negative delta
+        add(pendingHourBuckets, HOUR_BUCKETS, epochHour, -amountMinor, -1);
+        add(pendingMinuteBuckets, MINUTE_BUCKETS, epochMinute, -amountMinor, -1);
+    }
+
+    public long amountInLastDay(long epochHour) {
+        long total = 0;
+        for (int i = 0; i < HOUR_BUCKETS; i++) {
+            Bucket bucket = hourBuckets.get(i);
+            if (bucket != null && bucket.getEpoch() > epochHour - HOUR_BUCKETS) {
+                total += bucket.getAmountMinor();
+            }
+        }
+        return total;
+    }
+
+    public int countInLastHour(long epochMinute) {
+        int total = 0;
+        for (int i = 0; i < MINUTE_BUCKETS; i++) {
+            Bucket bucket = minuteBuckets.get(i);
+            if (bucket != null && bucket.getEpoch() > epochMinute - MINUTE_BUCKETS) {
+                total += bucket.getCount();
+            }
+        }
+        return total;
+    }
+
+    // Takes the unflushed deltas that are still inside the window, leaving the pending ring empty
+    public List<Bucket> drainPending(String granularity, long currentEpoch) {
+        AtomicReferenceArray<Bucket> pending = HOUR.equals(granularity) ? pendingHourBuckets : pendingMinuteBuckets;
+        int size = pending.length();
+        List<Bucket> drained = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Bucket bucket = pending.getAndSet(i, null);
+            if (bucket != null && bucket.getEpoch() > currentEpoch - size
+                    && (bucket.getAmountMinor() != 0 || bucket.getCount() != 0)) {
+                drained.add(bucket);
+            }
+        }
+        return drained;
+    }
+
+    public void requeuePending(String granularity, List<Bucket> deltas) {
+        AtomicReferenceArray<Bucket> pending = HOUR.equals(granularity) ? pendingHourBuckets : pendingMinuteBuckets;
+        for (Bucket delta : deltas) {
+            add(pending, pending.length(), delta.getEpoch(), delta.getAmountMinor(), delta.getCount());
+        }
+    }
+
+    // Persisted totals are merged into whatever the bucket already holds, so spend recorded before the
+    // restore is kept rather than replaced
+    public void restore(String granularity, long epoch, long amountMinor, int count) {
+        AtomicReferenceArray<Bucket> buckets = HOUR.equals(granularity) ? hourBuckets : minuteBuckets;
+        int slot = (int) Math.floorMod(epoch, (long) buckets.length());
+        buckets.accumulateAndGet(slot, new Bucket(epoch, amountMinor, count), (current, restored) -> {
+            if (current == null || current.getEpoch() < restored.getEpoch()) {
+                return restored;
+            }
+            if (current.getEpoch() == restored.getEpoch()) {
+                return new Bucket(epoch, current.getAmountMinor() + restored.getAmountMinor(),
+                        current.getCount() + restored.getCount());
+            }
+            return current;
+        });
+    }
+
+    private static void add(AtomicReferenceArray<Bucket> buckets, int size, long epoch, long amountMinor, int count) {
+        int slot = (int) Math.floorMod(epoch, (long) size);
+        buckets.updateAndGet(slot, current -> current == null || current.getEpoch() != epoch
+                ? new Bucket(epoch, amountMinor, count)
+                : new Bucket(epoch, current.getAmountMinor() + amountMinor, current.getCount() + count));
+    }
+
+    private static void remove(AtomicReferenceArray<Bucket> buckets, int size, long epoch, long amountMinor) {
+        int slot = (int) Math.floorMod(epoch, (long) size);
+        // A bucket that already rolled over no longer holds the reservation, so there is nothing to undo
+        buckets.updateAndGet(slot, current -> current == null || current.getEpoch() != epoch
+                ? current
+                : new Bucket(epoch, current.getAmountMinor() - amountMinor, current.getCount() - 1));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Bucket {
+        private final long epoch;
+        private final long amountMinor;
+        private final int count;
+    }
+}
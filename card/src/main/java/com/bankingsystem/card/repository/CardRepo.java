@@ -1,7 +1,10 @@
 package com.bankingsystem.card.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,4 +14,8 @@ import com.bankingsystem.card.entity.Card;
 public interface CardRepo extends JpaRepository<Card, Long> {
     List<Card> findByAccountId(Long accountId);
 
+    Optional<Card> findByCardNumber(String cardNumber);
+
+    Slice<Card> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
 }
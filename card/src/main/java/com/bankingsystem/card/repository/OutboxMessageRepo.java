@@ -0,0 +1,19 @@
+package com.bankingsystem.card.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.bankingsystem.card.entity.OutboxMessage;
+
+@Repository
+public interface OutboxMessageRepo extends JpaRepository<OutboxMessage, Long> {
+
+    // SKIP LOCKED lets several service instances relay disjoint batches concurrently
+    @Query(value = "SELECT * FROM outbox_messages ORDER BY id LIMIT :batchSize FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxMessage> lockNextBatch(@Param("batchSize") int batchSize);
+}
@@ -0,0 +1,164 @@
+package com.bankingsystem.card.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import com.bankingsystem.card.dto.CardAuthorizationState;
+import com.bankingsystem.card.entity.Card;
+import com.bankingsystem.card.repository.CardRepo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class CardAuthorizationIndex implements SmartLifecycle {
+
+    private final CardRepo cardRepo;
+    private final int warmupPageSize;
+
+    // Cards in every status, so blocked and inactive cards are declined from memory as well. The TTL bounds how
+    // long a missed card event (e.g. one published before this instance's queue existed) can go unnoticed.
+    private final Cache<String, CardAuthorizationState> cardsByNumber;
+    private final Cache<String, Boolean> unknownNumbers;
+    private final Map<Long, String> cardNumbersById = new ConcurrentHashMap<>();
+
+    // Bumped by every refresh before it reads the database. A load that saw it move may hold a row from before
+    // that change and is not stored; the refresh itself stores the current row.
+    private final AtomicLong changes = new AtomicLong();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile boolean running;
+
+    public CardAuthorizationIndex(CardRepo cardRepo,
+                                  @Value("${card.authorization.warmup-page-size:1000}") int warmupPageSize,
+                                  @Value("${card.authorization.ttl-minutes:10}") long ttlMinutes,
+                                  @Value("${card.authorization.unknown-ttl-seconds:60}") long unknownTtlSeconds,
+                                  @Value("${card.authorization.unknown-max-size:100000}") long unknownMaxSize) {
+        this.cardRepo = cardRepo;
+        this.warmupPageSize = warmupPageSize;
+        this.cardsByNumber = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.unknownNumbers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(unknownTtlSeconds))
+                .maximumSize(unknownMaxSize)
+                .build();
+    }
+
+    // Warmed before the web server starts, so no authorization is answered by an empty index
+    @Override
+    public void start() {
+        long lastId = 0L;
+        int loaded = 0;
+        Slice<Card> slice;
+        do {
+            long token = changes.get();
+            slice = cardRepo.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, warmupPageSize));
+            List<Card> cards = slice.getContent();
+            if (!cards.isEmpty()) {
+                storeIfUnchanged(token, () -> cards.forEach(this::put));
+                lastId = cards.get(cards.size() - 1).getId();
+                loaded += cards.size();
+            }
+        } while (slice.hasNext());
+        running = true;
+        log.info("Card authorization index warmed with {} cards", loaded);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // The embedded web server starts at DEFAULT_PHASE - 2048
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    public Optional<CardAuthorizationState> find(String cardNumber) {
+        CardAuthorizationState state = cardsByNumber.getIfPresent(cardNumber);
+        if (state != null) {
+            return Optional.of(state);
+        }
+        if (unknownNumbers.getIfPresent(cardNumber) != null) {
+            return Optional.empty();
+        }
+        // Miss: the card may be newer than the last event we saw, so consult the database once
+        long token = changes.get();
+        Optional<Card> card = cardRepo.findByCardNumber(cardNumber);
+        storeIfUnchanged(token, () -> card.ifPresentOrElse(this::put,
+                () -> unknownNumbers.put(cardNumber, Boolean.TRUE)));
+        return card.map(this::toState);
+    }
+
+    // Card changes are rare, so refreshes read under the lock; misses and the warm-up only take it to store
+    public void refresh(Long cardId) {
+        writeLock.lock();
+        try {
+            changes.incrementAndGet();
+            cardRepo.findById(cardId).ifPresentOrElse(this::put, () -> forget(cardId));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public long size() {
+        return cardsByNumber.estimatedSize();
+    }
+
+    private void storeIfUnchanged(long token, Runnable store) {
+        writeLock.lock();
+        try {
+            if (changes.get() == token) {
+                store.run();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void put(Card card) {
+        cardsByNumber.put(card.getCardNumber(), toState(card));
+        cardNumbersById.put(card.getId(), card.getCardNumber());
+        unknownNumbers.invalidate(card.getCardNumber());
+    }
+
+    private void forget(Long cardId) {
+        String cardNumber = cardNumbersById.remove(cardId);
+        if (cardNumber != null) {
+            cardsByNumber.invalidate(cardNumber);
+            unknownNumbers.put(cardNumber, Boolean.TRUE);
+        }
+    }
+
+    private CardAuthorizationState toState(Card card) {
+        return CardAuthorizationState.builder()
+                .cardId(card.getId())
+                .accountId(card.getAccountId())
+                .status(card.getStatus())
+                .expiryDate(card.getExpiryDate())
+                .cardType(card.getCardType())
+                .dailyAmountLimit(card.getDailyAmountLimit())
+                .hourlyCountLimit(card.getHourlyCountLimit())
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.bankingsystem.card.service;
+
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.bankingsystem.card.dto.CardEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CardAuthorizationIndexListener {
+
+    private final CardAuthorizationIndex cardAuthorizationIndex;
+
+    // Every instance gets its own queue so all in-memory indexes see every card change
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(),
+            exchange = @Exchange(value = "${rabbitmq.exchanges.internal}", type = ExchangeTypes.TOPIC),
+            key = "${rabbitmq.routing-keys.card-events}"))
+    public void onCardEvent(CardEvent event) {
+        if (event.getCardId() == null) {
+            log.warn("Ignoring card event without card id: {}", event);
+            return;
+        }
+        cardAuthorizationIndex.refresh(event.getCardId());
+    }
+}
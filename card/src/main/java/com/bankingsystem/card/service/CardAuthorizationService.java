@@ -0,0 +1,109 @@
+package com.bankingsystem.card.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.bankingsystem.card.client.TransactionClient;
+import com.bankingsystem.card.dto.AuthorizationDeclineReason;
+import com.bankingsystem.card.dto.CardAuthorizationRequest;
+import com.bankingsystem.card.dto.CardAuthorizationResponse;
+import com.bankingsystem.card.dto.CardAuthorizationState;
+import com.bankingsystem.card.dto.CardSpendReservation;
+import com.bankingsystem.card.dto.TransactionResponse;
+import com.bankingsystem.card.dto.transactions.WithdrawRequest;
+import com.bankingsystem.card.entity.CardStatus;
+import com.bankingsystem.card.helper.ApiResponse;
+
+import feign.FeignException;
+import feign.RetryableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CardAuthorizationService {
+
+    private final CardAuthorizationIndex cardAuthorizationIndex;
+    private final TransactionClient transactionClient;
+    private final CardSpendLimiter cardSpendLimiter;
+
+    // Card checks are answered from memory; the only remote call is the debit itself, whose conditional
+    // balance update in bank-account-service also enforces the account's active flag and available funds
+    public CardAuthorizationResponse authorize(CardAuthorizationRequest request) {
+        if (request == null || request.getCardNumber() == null || request.getAmount() == null
+                || request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Card number and a positive amount are required.");
+        }
+
+        Optional<CardAuthorizationState> found = cardAuthorizationIndex.find(request.getCardNumber());
+        if (found.isEmpty()) {
+            return decline(request, null, AuthorizationDeclineReason.CARD_NOT_FOUND, "Card not found.");
+        }
+        CardAuthorizationState card = found.get();
+        if (card.getStatus() != CardStatus.ACTIVE) {
+            return decline(request, card, AuthorizationDeclineReason.CARD_NOT_ACTIVE, "Card is not active.");
+        }
+        if (card.getExpiryDate() != null && card.getExpiryDate().isBefore(LocalDate.now())) {
+            return decline(request, card, AuthorizationDeclineReason.CARD_EXPIRED, "Card is expired.");
+        }
+
+        CardSpendReservation reservation = cardSpendLimiter.tryReserve(card.getCardId(), request.getReference(),
+                card.getCardType(), card.getDailyAmountLimit(), card.getHourlyCountLimit(), request.getAmount());
+        if (!reservation.isAccepted()) {
+            return decline(request, card, reservation.getDeclineReason(), "Card spending limit exceeded.");
+        }
+
+        WithdrawRequest debit = WithdrawRequest.builder()
+                .accountId(card.getAccountId())
+                .amount(request.getAmount())
+                .build();
+        ApiResponse<TransactionResponse> debitResponse;
+        try {
+            debitResponse = request.getReference() != null && !request.getReference().isBlank()
+                    ? transactionClient.withdraw("card-auth:" + card.getCardId() + ":" + request.getReference(), debit)
+                    : transactionClient.withdraw(debit);
+        } catch (RetryableException e) {
+            // The debit may still have gone through; the reservation stays so the limit errs on the safe side
+            log.warn("Debit for card {} timed out or could not connect: {}", card.getCardId(), e.getMessage());
+            return decline(request, card, AuthorizationDeclineReason.ISSUER_UNAVAILABLE,
+                    "Issuer is temporarily unavailable.");
+        } catch (FeignException e) {
+            cardSpendLimiter.release(reservation);
+            log.info("Debit for card {} was rejected with status {}", card.getCardId(), e.status());
+            return decline(request, card, AuthorizationDeclineReason.DEBIT_DECLINED, "Debit was declined.");
+        }
+
+        if (debitResponse == null || !debitResponse.isSuccess() || debitResponse.getData() == null) {
+            cardSpendLimiter.release(reservation);
+            return decline(request, card, AuthorizationDeclineReason.DEBIT_DECLINED,
+                    debitResponse != null ? debitResponse.getMessage() : "Debit was declined.");
+        }
+
+        TransactionResponse transaction = debitResponse.getData();
+        return CardAuthorizationResponse.builder()
+                .approved(true)
+                .message("Authorization approved.")
+                .cardId(card.getCardId())
+                .accountId(card.getAccountId())
+                .amount(request.getAmount())
+                .transactionId(transaction.getTransactionId())
+                .balanceAfter(transaction.getBalanceAfterTransaction())
+                .build();
+    }
+
+    private CardAuthorizationResponse decline(CardAuthorizationRequest request, CardAuthorizationState card,
+            AuthorizationDeclineReason reason, String message) {
+        return CardAuthorizationResponse.builder()
+                .approved(false)
+                .declineReason(reason)
+                .message(message)
+                .cardId(card != null ? card.getCardId() : null)
+                .accountId(card != null ? card.getAccountId() : null)
+                .amount(request.getAmount())
+                .build();
+    }
+}
@@ -2,17 +2,23 @@ package com.bankingsystem.card.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import com.bankingsystem.card.client.AccountClient;
-import com.bankingsystem.card.client.CustomerClient;
-import com.bankingsystem.card.client.NotificationClient;
+import com.bankingsystem.card.client.CachedAccountClient;
+import com.bankingsystem.card.client.CachedCustomerClient;
 import com.bankingsystem.card.client.TransactionClient;
 import com.bankingsystem.card.dto.BankAccountDto;
+import com.bankingsystem.card.dto.CardEvent;
+import com.bankingsystem.card.dto.CardEventType;
+import com.bankingsystem.card.dto.CardLimitsRequest;
 import com.bankingsystem.card.dto.CardRequestDto;
 import com.bankingsystem.card.dto.CardResponse;
+import com.bankingsystem.card.dto.CardSpendReservation;
 import com.bankingsystem.card.dto.CreateNotificationDto;
 import com.bankingsystem.card.dto.TransactionResponse;
 import com.bankingsystem.card.dto.transactions.CustomerDto;
@@ -22,6 +28,7 @@ import com.bankingsystem.card.entity.Card;
 import com.bankingsystem.card.entity.CardStatus;
 import com.bankingsystem.card.exception.BankAccountNotFoundException;
 import com.bankingsystem.card.exception.CardExpiredException;
+import com.bankingsystem.card.exception.CardLimitExceededException;
 import com.bankingsystem.card.exception.CardNotActiveException;
 import com.bankingsystem.card.exception.CardNotFoundException;
 import com.bankingsystem.card.exception.InsufficientBalanceException;
@@ -30,6 +37,8 @@ import com.bankingsystem.card.helper.CardMapper;
 import com.bankingsystem.card.helper.CardUtils;
 import com.bankingsystem.card.repository.CardRepo;
 
+import feign.FeignException;
+import feign.RetryableException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,11 +50,13 @@ import lombok.extern.slf4j.Slf4j;
 public class CardService {
 
     private final CardRepo cardRepo;
-    private final AccountClient accountClient;
-    private final CustomerClient customerClient;
+    private final CachedAccountClient accountClient;
+    private final CachedCustomerClient customerClient;
     private final CardMapper cardMapper;
     private final TransactionClient transactionClient;
-    private final NotificationClient notificationClient;
+    private final OutboxService outboxService;
+    private final CardAuthorizationIndex cardAuthorizationIndex;
+    private final CardSpendLimiter cardSpendLimiter;
 
 
     public CardResponse createCard(CardRequestDto cardRequestDto) {
@@ -74,20 +85,16 @@ public class CardService {
                 customer.getFirstName() + "_" + customer.getLastName());
 
         Card savedCard = cardRepo.save(card);
+        publishCardEvent(savedCard, CardEventType.CARD_CREATED);
 
-        try {
-
-            notificationClient.createNotification(CreateNotificationDto.builder()
-                    .customerId(customer.getId())
-                    .customerEmail(customer.getEmail())
-                    .title("New Card Created")
-                    .type("CARD")
-                    .message("Dear " + customer.getFirstName() + ", your new card with number "
-                            + savedCard.getCardNumber() + " has been successfully created.")
-                    .build());
-        } catch (Exception e) {
-            log.error("Failed to send notification for card creation for customer id {}", customer.getId(), e);
-        }
+        outboxService.enqueueNotification(CreateNotificationDto.builder()
+                .customerId(customer.getId())
+                .customerEmail(customer.getEmail())
+                .title("New Card Created")
+                .type("CARD")
+                .message("Dear " + customer.getFirstName() + ", your new card with number "
+                        + savedCard.getCardNumber() + " has been successfully created.")
+                .build());
 
         return cardMapper.toCardResponse(savedCard);
     }
@@ -113,23 +120,20 @@ public class CardService {
         card.setStatus(CardStatus.INACTIVE);
 
         cardRepo.save(card);
+        publishCardEvent(card, CardEventType.CARD_UPDATED);
 
         BankAccountDto bankAccount = accountClient.getAccountById(card.getAccountId()).getData();
 
         CustomerDto customer = customerClient.getCustomerById(bankAccount.getCustomerId())
                 .getData();
-        try {
-            notificationClient.createNotification(CreateNotificationDto.builder()
-                    .customerId(customer.getId())
-                    .customerEmail(customer.getEmail())
-                    .title("Card Deactivated")
-                    .type("CARD")
-                    .message("Dear " + customer.getFirstName() + ", your card with number "
-                            + card.getCardNumber() + " has been deactivated.")
-                    .build());
-        } catch (Exception e) {
-            log.error("Failed to send card deactivation notification for customer id:" + customer.getId(), e);
-        }
+        outboxService.enqueueNotification(CreateNotificationDto.builder()
+                .customerId(customer.getId())
+                .customerEmail(customer.getEmail())
+                .title("Card Deactivated")
+                .type("CARD")
+                .message("Dear " + customer.getFirstName() + ", your card with number "
+                        + card.getCardNumber() + " has been deactivated.")
+                .build());
     }
 
     public void blockCard(Long cardId) {
@@ -139,24 +143,20 @@ public class CardService {
         card.setStatus(CardStatus.BLOCKED);
 
         cardRepo.save(card);
+        publishCardEvent(card, CardEventType.CARD_UPDATED);
 
         BankAccountDto bankAccount = accountClient.getAccountById(card.getAccountId()).getData();
 
         CustomerDto customer = customerClient.getCustomerById(bankAccount.getCustomerId())
                 .getData();
-        try {
-
-            notificationClient.createNotification(CreateNotificationDto.builder()
-                    .customerId(customer.getId())
-                    .customerEmail(customer.getEmail())
-                    .title("Card Blocked")
-                    .type("CARD")
-                    .message("Dear " + customer.getFirstName() + ", your card with number "
-                            + card.getCardNumber() + " has been blocked.")
-                    .build());
-        } catch (Exception e) {
-            log.error("Failed to send card block notification for customer id: " + customer.getId(), e);
-        }
+        outboxService.enqueueNotification(CreateNotificationDto.builder()
+                .customerId(customer.getId())
+                .customerEmail(customer.getEmail())
+                .title("Card Blocked")
+                .type("CARD")
+                .message("Dear " + customer.getFirstName() + ", your card with number "
+                        + card.getCardNumber() + " has been blocked.")
+                .build());
 
     }
 
@@ -165,24 +165,20 @@ public class CardService {
                 .orElseThrow(() -> new CardNotFoundException("Card with ID " + cardId + " not found."));
 
         cardRepo.delete(card);
+        publishCardEvent(card, CardEventType.CARD_DELETED);
 
         BankAccountDto bankAccount = accountClient.getAccountById(card.getAccountId()).getData();
 
         CustomerDto customer = customerClient.getCustomerById(bankAccount.getCustomerId())
                 .getData();
-        try {
-
-            notificationClient.createNotification(CreateNotificationDto.builder()
-                    .customerId(customer.getId())
-                    .customerEmail(customer.getEmail())
-                    .title("Card Deleted")
-                    .type("CARD")
-                    .message("Dear " + customer.getFirstName() + ", your card with number "
-                            + card.getCardNumber() + " has been deleted successfully.")
-                    .build());
-        } catch (Exception e) {
-            log.error("Failed to send card deletion notification for customer id: " + customer.getId(), e);
-        }
+        outboxService.enqueueNotification(CreateNotificationDto.builder()
+                .customerId(customer.getId())
+                .customerEmail(customer.getEmail())
+                .title("Card Deleted")
+                .type("CARD")
+                .message("Dear " + customer.getFirstName() + ", your card with number "
+                        + card.getCardNumber() + " has been deleted successfully.")
+                .build());
     }
 
     public boolean validateCardNumber(String cardNumber) {
@@ -202,12 +198,13 @@ public class CardService {
 
         card.setStatus(newStatus);
         Card updatedCard = cardRepo.save(card);
+        publishCardEvent(updatedCard, CardEventType.CARD_UPDATED);
         try {
             BankAccountDto bankAccount = accountClient.getAccountById(card.getAccountId()).getData();
             CustomerDto customer = customerClient.getCustomerById(bankAccount.getCustomerId())
                     .getData();
 
-            notificationClient.createNotification(CreateNotificationDto.builder()
+            outboxService.enqueueNotification(CreateNotificationDto.builder()
                     .customerId(customer.getId())
                     .customerEmail(customer.getEmail())
                     .title("Card Status Updated")
@@ -233,30 +230,47 @@ public class CardService {
                 oldCard.getCardHolderName());
 
         Card savedNewCard = cardRepo.save(newCard);
+        publishCardEvent(savedNewCard, CardEventType.CARD_CREATED);
         oldCard.setStatus(CardStatus.INACTIVE);
         cardRepo.save(oldCard);
+        publishCardEvent(oldCard, CardEventType.CARD_UPDATED);
 
         BankAccountDto bankAccount = accountClient.getAccountById(oldCard.getAccountId()).getData();
 
         CustomerDto customer = customerClient.getCustomerById(bankAccount.getCustomerId())
                 .getData();
 
-        try {
-            notificationClient.createNotification(CreateNotificationDto.builder()
-                    .customerId(customer.getId())
-                    .customerEmail(customer.getEmail())
-                    .title("Card Regenerated")
-                    .type("CARD")
-                    .message("Dear " + customer.getFirstName() + ", your card with number "
-                            + oldCard.getCardNumber() + " has been replaced with a new card "
-                            + savedNewCard.getCardNumber() + ". The old card is now inactive.")
-                    .build());
-        } catch (Exception e) {
-            log.error("Failed to send card regeneration notification for customer id {}", customer.getId(), e);
-        }
+        outboxService.enqueueNotification(CreateNotificationDto.builder()
+                .customerId(customer.getId())
+                .customerEmail(customer.getEmail())
+                .title("Card Regenerated")
+                .type("CARD")
+                .message("Dear " + customer.getFirstName() + ", your card with number "
+                        + oldCard.getCardNumber() + " has been replaced with a new card "
+                        + savedNewCard.getCardNumber() + ". The old card is now inactive.")
+                .build());
         return cardMapper.toCardResponse(savedNewCard);
     }
 
+    public CardResponse updateCardLimits(Long cardId, CardLimitsRequest request) {
+        Card card = cardRepo.findById(cardId)
+                .orElseThrow(() -> new CardNotFoundException("Card with ID " + cardId + " not found."));
+
+        if (request.getDailyAmountLimit() != null && request.getDailyAmountLimit().signum() < 0) {
+            throw new IllegalArgumentException("Daily amount limit cannot be negative.");
+        }
+        if (request.getHourlyCountLimit() != null && request.getHourlyCountLimit() < 0) {
+            throw new IllegalArgumentException("Hourly count limit cannot be negative.");
+        }
+
+        card.setDailyAmountLimit(request.getDailyAmountLimit());
+        card.setHourlyCountLimit(request.getHourlyCountLimit());
+        Card updatedCard = cardRepo.save(card);
+        publishCardEvent(updatedCard, CardEventType.CARD_UPDATED);
+
+        return cardMapper.toCardResponse(updatedCard);
+    }
+
     public boolean isCardExpired(Long cardId) {
         Card card = cardRepo.findById(cardId)
                 .orElseThrow(() -> new CardNotFoundException("Card with ID " + cardId + " not found."));
@@ -278,7 +292,8 @@ public class CardService {
             throw new CardExpiredException("Card with ID " + cardId + " is expired.");
         }
 
-        ApiResponse<BankAccountDto> accountResponse = accountClient.getAccountById(card.getAccountId());
+        // The balance check below must not run against a cached snapshot
+        ApiResponse<BankAccountDto> accountResponse = accountClient.getAccountByIdStrict(card.getAccountId());
         if (accountResponse == null || accountResponse.getData() == null) {
             throw new BankAccountNotFoundException("Bank account not found for accountId " + card.getAccountId());
         }
@@ -294,9 +309,25 @@ public class CardService {
             throw new InsufficientBalanceException("Insufficient balance in account " + bankAccount.getId());
         }
 
-        ApiResponse<TransactionResponse> withdrawResponse = transactionClient.withdraw(request);
+        CardSpendReservation reservation = cardSpendLimiter.tryReserve(card.getId(), card.getCardType(),
+                card.getDailyAmountLimit(), card.getHourlyCountLimit(), amount);
+        if (!reservation.isAccepted()) {
+            throw new CardLimitExceededException("Card with ID " + cardId + " exceeded its spending limit: "
+                    + reservation.getDeclineReason());
+        }
+
+        ApiResponse<TransactionResponse> withdrawResponse;
+        try {
+            withdrawResponse = transactionClient.withdraw(request);
+        } catch (RetryableException e) {
+            throw e;
+        } catch (FeignException e) {
+            cardSpendLimiter.release(reservation);
+            throw e;
+        }
 
         if (withdrawResponse == null || !withdrawResponse.isSuccess()) {
+            cardSpendLimiter.release(reservation);
             throw new IllegalStateException("Failed to withdraw amount for cardId " + cardId);
         }
 
@@ -333,4 +364,23 @@ public class CardService {
 
         return depositResponse.getData();
     }
-}
\ No newline at end of file
+
+    private void publishCardEvent(Card card, CardEventType eventType) {
+        outboxService.enqueueCardEvent(CardEvent.builder()
+                .cardId(card.getId())
+                .eventType(eventType)
+                .accountId(card.getAccountId())
+                .status(card.getStatus())
+                .occurredAt(LocalDateTime.now())
+                .build());
+
+        // The broker copy of this event reaches other instances; this one updates its index as soon as we commit
+        Long cardId = card.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cardAuthorizationIndex.refresh(cardId);
+            }
+        });
+    }
+}
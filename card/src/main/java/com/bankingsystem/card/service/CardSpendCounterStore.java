@@ -0,0 +1,116 @@
+package com.bankingsystem.card.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bankingsystem.card.helper.CardSpendWindow;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CardSpendCounterStore {
+
+    // Each instance writes only the spend it recorded since its last flush, so concurrent instances add up
+    // instead of the last writer replacing everyone else's total
+    private static final String UPSERT_BUCKET = "INSERT INTO card_spend_buckets "
+            + "(card_id, granularity, bucket_epoch, amount_minor, tx_count, updated_at) VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (card_id, granularity, bucket_epoch) DO UPDATE SET "
+            + "amount_minor = card_spend_buckets.amount_minor + EXCLUDED.amount_minor, "
+            + "tx_count = card_spend_buckets.tx_count + EXCLUDED.tx_count, updated_at = EXCLUDED.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CardSpendLimiter cardSpendLimiter;
+
+    // Runs before the web server and listeners start, and JdbcTemplate already waits for Flyway
+    @PostConstruct
+    public void load() {
+        long epochHour = cardSpendLimiter.currentEpochHour();
+        long epochMinute = cardSpendLimiter.currentEpochMinute();
+        int[] restored = {0};
+        jdbcTemplate.query("SELECT card_id, granularity, bucket_epoch, amount_minor, tx_count "
+                        + "FROM card_spend_buckets "
+                        + "WHERE (granularity = ? AND bucket_epoch > ?) OR (granularity = ? AND bucket_epoch > ?)",
+                rs -> {
+                    cardSpendLimiter.restore(rs.getLong("card_id"), rs.getString("granularity"),
+                            rs.getLong("bucket_epoch"), rs.getLong("amount_minor"), rs.getInt("tx_count"));
+                    restored[0]++;
+                },
+                CardSpendWindow.HOUR, epochHour - 24, CardSpendWindow.MINUTE, epochMinute - 60);
+        log.info("Restored {} card spend buckets", restored[0]);
+    }
+
+    @Scheduled(fixedDelayString = "${card.limits.persist-interval-ms:10000}")
+    public void flush() {
+        List<Long> cardIds = cardSpendLimiter.drainDirtyCardIds();
+        if (cardIds.isEmpty()) {
+            return;
+        }
+
+        long epochHour = cardSpendLimiter.currentEpochHour();
+        long epochMinute = cardSpendLimiter.currentEpochMinute();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<Long, List<CardSpendWindow.Bucket>> hourDeltas = new HashMap<>();
+        Map<Long, List<CardSpendWindow.Bucket>> minuteDeltas = new HashMap<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (Long cardId : cardIds) {
+            CardSpendWindow window = cardSpendLimiter.window(cardId);
+            if (window == null) {
+                continue;
+            }
+            List<CardSpendWindow.Bucket> hours = window.drainPending(CardSpendWindow.HOUR, epochHour);
+            List<CardSpendWindow.Bucket> minutes = window.drainPending(CardSpendWindow.MINUTE, epochMinute);
+            hourDeltas.put(cardId, hours);
+            minuteDeltas.put(cardId, minutes);
+            hours.forEach(bucket -> rows.add(toRow(cardId, CardSpendWindow.HOUR, bucket, now)));
+            minutes.forEach(bucket -> rows.add(toRow(cardId, CardSpendWindow.MINUTE, bucket, now)));
+        }
+
+        try {
+            // Deltas are not idempotent, so they either all land or all go back to the pending rings
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPSERT_BUCKET, rows);
+                jdbcTemplate.update("DELETE FROM card_spend_buckets WHERE "
+                                + "(granularity = ? AND bucket_epoch <= ?) OR (granularity = ? AND bucket_epoch <= ?)",
+                        CardSpendWindow.HOUR, epochHour - 24, CardSpendWindow.MINUTE, epochMinute - 60);
+            });
+            log.debug("Persisted {} spend bucket deltas for {} cards", rows.size(), cardIds.size());
+        } catch (RuntimeException e) {
+            hourDeltas.forEach((cardId, deltas) -> requeue(cardId, CardSpendWindow.HOUR, deltas));
+            minuteDeltas.forEach((cardId, deltas) -> requeue(cardId, CardSpendWindow.MINUTE, deltas));
+            cardIds.forEach(cardSpendLimiter::markDirty);
+            log.warn("Failed to persist card spend counters, will retry: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void requeue(Long cardId, String granularity, List<CardSpendWindow.Bucket> deltas) {
+        CardSpendWindow window = cardSpendLimiter.window(cardId);
+        if (window != null) {
+            window.requeuePending(granularity, deltas);
+        }
+    }
+
+    private Object[] toRow(Long cardId, String granularity, CardSpendWindow.Bucket bucket, Timestamp updatedAt) {
+        return new Object[] {cardId, granularity, bucket.getEpoch(), bucket.getAmountMinor(), bucket.getCount(),
+                updatedAt};
+    }
+}
@@ -0,0 +1,155 @@
+package com.bankingsystem.card.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+
+import com.bankingsystem.card.config.CardLimitsConfig;
+import com.bankingsystem.card.dto.AuthorizationDeclineReason;
+import com.bankingsystem.card.dto.CardSpendReservation;
+import com.bankingsystem.card.entity.CardType;
+import com.bankingsystem.card.helper.CardSpendWindow;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class CardSpendLimiter {
+
+    private static final long MILLIS_PER_MINUTE = Duration.ofMinutes(1).toMillis();
+    private static final long MILLIS_PER_HOUR = Duration.ofHours(1).toMillis();
+    private static final long MAX_TRACKED_REFERENCES = 1_000_000;
+
+    private final CardLimitsConfig cardLimitsConfig;
+
+    private final Map<Long, CardSpendWindow> windows = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyCardIds = ConcurrentHashMap.newKeySet();
+
+    // Accepted reservations by card and authorization reference, kept as long as the daily window they count in
+    private final Cache<String, CardSpendReservation> reservationsByReference = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofDays(1))
+            .maximumSize(MAX_TRACKED_REFERENCES)
+            .build();
+
+    // A POS retry of the same authorization finds the first attempt's reservation instead of counting the spend
+    // again. The debit behind it is idempotent on the same reference, so the retry reserves nothing and cannot
+    // release the original; only the attempt that made the reservation can.
+    public CardSpendReservation tryReserve(Long cardId, String reference, CardType cardType,
+            BigDecimal dailyAmountOverride, Integer hourlyCountOverride, BigDecimal amount) {
+        if (reference == null || reference.isBlank()) {
+            return tryReserve(cardId, cardType, dailyAmountOverride, hourlyCountOverride, amount);
+        }
+
+        CardSpendReservation[] made = new CardSpendReservation[1];
+        CardSpendReservation held = reservationsByReference.asMap().computeIfAbsent(cardId + ":" + reference, key -> {
+            made[0] = tryReserve(cardId, cardType, dailyAmountOverride, hourlyCountOverride, amount);
+            made[0].setReferenceKey(key);
+            return made[0].isAccepted() ? made[0] : null;
+        });
+        if (made[0] != null) {
+            return made[0];
+        }
+        return CardSpendReservation.builder()
+                .cardId(held.getCardId())
+                .epochHour(held.getEpochHour())
+                .epochMinute(held.getEpochMinute())
+                .amountMinor(held.getAmountMinor())
+                .referenceKey(held.getReferenceKey())
+                .retry(true)
+                .build();
+    }
+
+    // Records the spend first and checks afterwards: concurrent authorizations near the limit may both be
+    // declined, but the limit itself can never be overshot
+    public CardSpendReservation tryReserve(Long cardId, CardType cardType, BigDecimal dailyAmountOverride,
+            Integer hourlyCountOverride, BigDecimal amount) {
+        long now = System.currentTimeMillis();
+        long epochHour = now / MILLIS_PER_HOUR;
+        long epochMinute = now / MILLIS_PER_MINUTE;
+        long amountMinor = toMinor(amount);
+
+        CardSpendWindow window = windows.computeIfAbsent(cardId, id -> new CardSpendWindow());
+        window.add(epochHour, epochMinute, amountMinor);
+        dirtyCardIds.add(cardId);
+
+        CardSpendReservation reservation = CardSpendReservation.builder()
+                .cardId(cardId)
+                .epochHour(epochHour)
+                .epochMinute(epochMinute)
+                .amountMinor(amountMinor)
+                .build();
+
+        BigDecimal dailyLimit = dailyAmountOverride != null
+                ? dailyAmountOverride
+                : cardLimitsConfig.getDefaultDailyAmount(cardType);
+        int hourlyLimit = hourlyCountOverride != null
+                ? hourlyCountOverride
+                : cardLimitsConfig.getDefaultHourlyCount(cardType);
+
+        if (window.amountInLastDay(epochHour) > toMinor(dailyLimit)) {
+            release(reservation);
+            reservation.setDeclineReason(AuthorizationDeclineReason.DAILY_AMOUNT_LIMIT_EXCEEDED);
+        } else if (window.countInLastHour(epochMinute) > hourlyLimit) {
+            release(reservation);
+            reservation.setDeclineReason(AuthorizationDeclineReason.HOURLY_COUNT_LIMIT_EXCEEDED);
+        }
+        return reservation;
+    }
+
+    public void release(CardSpendReservation reservation) {
+        if (reservation.isRetry()) {
+            return;
+        }
+        if (reservation.getReferenceKey() != null) {
+            reservationsByReference.asMap().remove(reservation.getReferenceKey(), reservation);
+        }
+        CardSpendWindow window = windows.get(reservation.getCardId());
+        if (window != null) {
+            window.remove(reservation.getEpochHour(), reservation.getEpochMinute(), reservation.getAmountMinor());
+            dirtyCardIds.add(reservation.getCardId());
+        }
+    }
+
+    public List<Long> drainDirtyCardIds() {
+        List<Long> drained = new ArrayList<>(dirtyCardIds.size());
+        for (Long cardId : dirtyCardIds) {
+            if (dirtyCardIds.remove(cardId)) {
+                drained.add(cardId);
+            }
+        }
+        return drained;
+    }
+
+    public void markDirty(Long cardId) {
+        dirtyCardIds.add(cardId);
+    }
+
+    public CardSpendWindow window(Long cardId) {
+        return windows.get(cardId);
+    }
+
+    public void restore(Long cardId, String granularity, long epoch, long amountMinor, int count) {
+        windows.computeIfAbsent(cardId, id -> new CardSpendWindow()).restore(granularity, epoch, amountMinor, count);
+    }
+
+    public long currentEpochHour() {
+        return System.currentTimeMillis() / MILLIS_PER_HOUR;
+    }
+
+    public long currentEpochMinute() {
+        return System.currentTimeMillis() / MILLIS_PER_MINUTE;
+    }
+
+    private long toMinor(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+    }
+}
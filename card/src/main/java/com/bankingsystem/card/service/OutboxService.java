@@ -0,0 +1,51 @@
+package com.bankingsystem.card.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingsystem.card.config.OutboxConfig;
+import com.bankingsystem.card.dto.CardEvent;
+import com.bankingsystem.card.dto.CreateNotificationDto;
+import com.bankingsystem.card.entity.OutboxMessage;
+import com.bankingsystem.card.repository.OutboxMessageRepo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxMessageRepo outboxMessageRepo;
+    private final OutboxConfig outboxConfig;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String routingKey, Object payload) {
+        try {
+            outboxMessageRepo.save(OutboxMessage.builder()
+                    .routingKey(routingKey)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload for routing key " + routingKey, e);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueNotification(CreateNotificationDto notification) {
+        enqueue(outboxConfig.getNotificationRequestRoutingKey(), notification);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueCardEvent(CardEvent event) {
+        String routingKey = switch (event.getEventType()) {
+            case CARD_CREATED -> outboxConfig.getCardCreatedRoutingKey();
+            case CARD_UPDATED -> outboxConfig.getCardUpdatedRoutingKey();
+            case CARD_DELETED -> outboxConfig.getCardDeletedRoutingKey();
+        };
+        enqueue(routingKey, event);
+    }
+}
@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS cards (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    card_number      VARCHAR(16)  NOT NULL UNIQUE,
+    card_holder_name VARCHAR(255) NOT NULL,
+    expiry_date      DATE,
+    cvv              VARCHAR(3)   NOT NULL,
+    card_network     VARCHAR(255) NOT NULL,
+    card_type        VARCHAR(255) NOT NULL,
+    status           VARCHAR(255) NOT NULL,
+    account_id       BIGINT       NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    routing_key VARCHAR(255) NOT NULL,
+    payload     TEXT         NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    attempts    INTEGER      NOT NULL
+);
@@ -0,0 +1,3 @@
+-- findByAccountId
+CREATE INDEX IF NOT EXISTS idx_cards_account_id
+    ON cards (account_id);
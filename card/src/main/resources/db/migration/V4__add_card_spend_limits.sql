@@ -0,0 +1,16 @@
+ALTER TABLE cards ADD COLUMN IF NOT EXISTS daily_amount_limit NUMERIC(19, 2);
+ALTER TABLE cards ADD COLUMN IF NOT EXISTS hourly_count_limit INTEGER;
+
+-- Snapshot of the in-memory sliding-window buckets so velocity counters survive restarts
+CREATE TABLE IF NOT EXISTS card_spend_buckets (
+    card_id      BIGINT       NOT NULL,
+    granularity  VARCHAR(16)  NOT NULL,
+    bucket_epoch BIGINT       NOT NULL,
+    amount_minor BIGINT       NOT NULL,
+    tx_count     INTEGER      NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (card_id, granularity, bucket_epoch)
+);
+
+CREATE INDEX IF NOT EXISTS idx_card_spend_buckets_granularity_epoch
+    ON card_spend_buckets (granularity, bucket_epoch);
@@ -0,0 +1,25 @@
+package com.bankingsystem.card.repository;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+
+import com.bankingsystem.testsupport.AbstractRepoIndexTest;
+
+class CardRepoIndexTest extends AbstractRepoIndexTest {
+
+    @Test
+    void findByAccountIdUsesAccountIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM cards WHERE account_id = 42");
+    }
+
+    @Test
+    void findByCardNumberUsesUniqueIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM cards WHERE card_number = '4000123412341234'");
+    }
+
+    @Test
+    void warmupPagesUsePrimaryKey() throws SQLException {
+        assertUsesIndex("SELECT * FROM cards WHERE id > 1000 ORDER BY id LIMIT 500");
+    }
+}
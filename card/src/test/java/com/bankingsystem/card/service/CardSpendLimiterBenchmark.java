@@ -0,0 +1,76 @@
+package com.bankingsystem.card.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.bankingsystem.card.config.CardLimitsConfig;
+import com.bankingsystem.card.dto.CardSpendReservation;
+import com.bankingsystem.card.entity.CardType;
+
+/**
+ * Authorization throughput of {@link CardSpendLimiter}, run by hand rather than by surefire:
+ * {@code java -cp <test classpath> com.bankingsystem.card.service.CardSpendLimiterBenchmark}.
+ *
+ * <p>Each operation is one tryReserve, and every tenth reservation is released again, as a declined or reversed
+ * payment would be. Limits are passed as per-card overrides set high enough that nothing is declined, so every
+ * call does the full record-and-sum path.
+ */
+public class CardSpendLimiterBenchmark {
+
+    private static final int CARDS = 100_000;
+    private static final long WARM_UP_MILLIS = 2_000;
+    private static final long MEASURE_MILLIS = 5_000;
+    private static final BigDecimal DAILY_LIMIT = new BigDecimal("1000000000000");
+    private static final BigDecimal AMOUNT = new BigDecimal("12.34");
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf(Locale.ROOT, "%-10s %8s %14s%n", "cards", "threads", "auth/s");
+        for (boolean hotCard : new boolean[] {false, true}) {
+            for (int threads : new int[] {1, 4, 16}) {
+                CardSpendLimiter limiter = new CardSpendLimiter(new CardLimitsConfig());
+                run(limiter, threads, hotCard, WARM_UP_MILLIS);
+                long operations = run(limiter, threads, hotCard, MEASURE_MILLIS);
+                System.out.printf(Locale.ROOT, "%-10s %8d %14.0f%n", hotCard ? "1 (hot)" : "100k", threads,
+                        operations * 1000.0 / MEASURE_MILLIS);
+            }
+        }
+    }
+
+    private static long run(CardSpendLimiter limiter, int threads, boolean hotCard, long millis) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long operations = 0;
+                    while ((operations & 1023) != 0 || System.nanoTime() < deadline) {
+                        long cardId = hotCard ? 1L : random.nextInt(CARDS);
+                        CardSpendReservation reservation = limiter.tryReserve(cardId, CardType.DEBIT, DAILY_LIMIT,
+                                Integer.MAX_VALUE, AMOUNT);
+                        if (operations % 10 == 0) {
+                            limiter.release(reservation);
+                        }
+                        operations++;
+                    }
+                    return operations;
+                }));
+            }
+            long total = 0;
+            for (Future<Long> future : futures) {
+                total += future.get();
+            }
+            return total;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
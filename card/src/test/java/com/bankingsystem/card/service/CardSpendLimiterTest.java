@@ -0,0 +1,67 @@
+package com.bankingsystem.card.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import com.bankingsystem.card.config.CardLimitsConfig;
+import com.bankingsystem.card.dto.CardSpendReservation;
+import com.bankingsystem.card.entity.CardType;
+
+class CardSpendLimiterTest {
+
+    private static final Long CARD_ID = 7L;
+    private static final BigDecimal DAILY_LIMIT = new BigDecimal("100.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("60.00");
+
+    private final CardSpendLimiter limiter = new CardSpendLimiter(new CardLimitsConfig());
+
+    @Test
+    void retryWithTheSameReferenceReusesTheReservation() {
+        CardSpendReservation first = reserve("pos-1");
+        CardSpendReservation retry = reserve("pos-1");
+
+        assertThat(first.isAccepted()).isTrue();
+        assertThat(retry.isAccepted()).isTrue();
+        assertThat(retry.isRetry()).isTrue();
+        assertThat(spentToday()).isEqualTo(6000);
+    }
+
+    @Test
+    void releasingARetryKeepsTheOriginalReservation() {
+        reserve("pos-1");
+        limiter.release(reserve("pos-1"));
+
+        assertThat(spentToday()).isEqualTo(6000);
+        // A different payment still sees the first one counted against the limit
+        assertThat(reserve("pos-2").isAccepted()).isFalse();
+    }
+
+    @Test
+    void releasedReferenceReservesAgain() {
+        limiter.release(reserve("pos-1"));
+        CardSpendReservation again = reserve("pos-1");
+
+        assertThat(again.isAccepted()).isTrue();
+        assertThat(again.isRetry()).isFalse();
+        assertThat(spentToday()).isEqualTo(6000);
+    }
+
+    @Test
+    void withoutReferenceEveryAttemptCounts() {
+        reserve(null);
+
+        assertThat(reserve(null).isAccepted()).isFalse();
+        assertThat(spentToday()).isEqualTo(6000);
+    }
+
+    private CardSpendReservation reserve(String reference) {
+        return limiter.tryReserve(CARD_ID, reference, CardType.DEBIT, DAILY_LIMIT, 10, AMOUNT);
+    }
+
+    private long spentToday() {
+        return limiter.window(CARD_ID).amountInLastDay(limiter.currentEpochHour());
+    }
+}
@@ -0,0 +1,52 @@
+package com.bankingsystem.common.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Read-through cache for another service's data that an eviction cannot lose to a load already in flight.
+// Take a token before the remote read and store the result with putIfUnchanged: if any key was evicted in the
+// meantime the result may predate that change, so it is returned to the caller but not cached.
+public class GuardedCache<K, V> {
+
+    private final Cache<K, V> cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public GuardedCache(String name, Duration ttl, long maxSize, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public V getIfPresent(K key) {
+        return cache.getIfPresent(key);
+    }
+
+    public Map<K, V> getAllPresent(Iterable<? extends K> keys) {
+        return cache.getAllPresent(keys);
+    }
+
+    public long loadToken() {
+        return evictions.get();
+    }
+
+    // The check runs inside the entry's compute, so an eviction either sees the new value and removes it
+    // or has already moved the counter and the value is never stored
+    public void putIfUnchanged(long token, K key, V value) {
+        cache.asMap().compute(key, (k, current) -> evictions.get() == token ? value : current);
+    }
+
+    public void evict(K key) {
+        evictions.incrementAndGet();
+        cache.invalidate(key);
+    }
+}
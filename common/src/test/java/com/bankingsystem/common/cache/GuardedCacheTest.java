@@ -0,0 +1,45 @@
+package com.bankingsystem.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GuardedCacheTest {
+
+    private final GuardedCache<Long, String> cache =
+            new GuardedCache<>("test", Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+
+    @Test
+    void storesALoadWhenNothingWasEvicted() {
+        long token = cache.loadToken();
+        cache.putIfUnchanged(token, 1L, "loaded");
+
+        assertThat(cache.getIfPresent(1L)).isEqualTo("loaded");
+    }
+
+    @Test
+    void dropsALoadThatAnEvictionOvertook() {
+        long token = cache.loadToken();
+        // The remote read returned the old row, then the change event evicted the key before the put
+        cache.evict(1L);
+        cache.putIfUnchanged(token, 1L, "stale");
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    void evictionRemovesAValueStoredJustBeforeIt() {
+        long token = cache.loadToken();
+        cache.putIfUnchanged(token, 1L, "loaded");
+        cache.evict(1L);
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        long next = cache.loadToken();
+        cache.putIfUnchanged(next, 1L, "fresh");
+        assertThat(cache.getIfPresent(1L)).isEqualTo("fresh");
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import com.bankingsystem.customer.exception.CustomerAlreadyExistsException;
 import com.bankingsystem.customer.exception.CustomerNotFoundException;
+import com.bankingsystem.customer.exception.InvalidCustomerOperationException;
 import com.bankingsystem.customer.helper.ApiResponse;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
@@ -53,6 +54,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(InvalidCustomerOperationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidCustomerOperation(InvalidCustomerOperationException ex) {
+        log.warn("Invalid customer operation: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.<Void>builder()
+                        .success(false)
+                        .message(ex.getMessage())
+                        .build());
+    }
+
     @ExceptionHandler(InvalidTransactionException.class)
     public ResponseEntity<ApiResponse<Void>> handleInvalidTransaction(InvalidTransactionException ex) {
         log.warn("Invalid transaction: {}", ex.getMessage());
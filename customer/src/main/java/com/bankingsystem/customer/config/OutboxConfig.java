@@ -0,0 +1,50 @@
+package com.bankingsystem.customer.config;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboxConfig {
+
+    @Value("${rabbitmq.exchanges.internal}")
+    private String internalExchange;
+
+    @Value("${rabbitmq.routing-keys.notification-request}")
+    private String notificationRequestRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.customer-created}")
+    private String customerCreatedRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.customer-updated}")
+    private String customerUpdatedRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.customer-deleted}")
+    private String customerDeletedRoutingKey;
+
+    @Bean
+    public TopicExchange internalTopicExchange() {
+        return new TopicExchange(this.internalExchange);
+    }
+
+    public String getInternalExchange() {
+        return internalExchange;
+    }
+
+    public String getNotificationRequestRoutingKey() {
+        return notificationRequestRoutingKey;
+    }
+
+    public String getCustomerCreatedRoutingKey() {
+        return customerCreatedRoutingKey;
+    }
+
+    public String getCustomerUpdatedRoutingKey() {
+        return customerUpdatedRoutingKey;
+    }
+
+    public String getCustomerDeletedRoutingKey() {
+        return customerDeletedRoutingKey;
+    }
+}
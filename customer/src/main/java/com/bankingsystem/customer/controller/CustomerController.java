@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.bankingsystem.customer.dto.CustomerBatchRequest;
 import com.bankingsystem.customer.dto.CustomerDto;
 import com.bankingsystem.customer.helper.ApiResponse;
 
@@ -57,6 +58,17 @@ public class CustomerController {
                 .build());
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<CustomerDto>>> getCustomersByIds(
+            @RequestBody CustomerBatchRequest request) {
+        List<CustomerDto> customers = customerService.getCustomersByIds(request.getIds());
+        return ResponseEntity.ok(ApiResponse.<List<CustomerDto>>builder()
+                .success(true)
+                .message("Customers retrieved successfully")
+                .data(customers)
+                .build());
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<CustomerDto>> updateCustomer(@PathVariable Long id,
             @RequestBody CustomerDto customerDto) {
@@ -0,0 +1,7 @@
+package com.bankingsystem.customer.dto;
+
+public enum CustomerEventType {
+    CUSTOMER_CREATED,
+    CUSTOMER_UPDATED,
+    CUSTOMER_DELETED
+}
@@ -1,18 +1,28 @@
 package com.bankingsystem.customer.service;
 
-import com.bankingsystem.customer.client.NotificationClient;
 import com.bankingsystem.customer.dto.CreateNotificationDto;
 import com.bankingsystem.customer.dto.CustomerDto;
+import com.bankingsystem.customer.dto.CustomerEvent;
+import com.bankingsystem.customer.dto.CustomerEventType;
 import com.bankingsystem.customer.entity.Customer;
 import com.bankingsystem.customer.exception.CustomerAlreadyExistsException;
 import com.bankingsystem.customer.exception.CustomerNotFoundException;
+import com.bankingsystem.customer.exception.InvalidCustomerOperationException;
 import com.bankingsystem.customer.helper.CustomerMapper;
 import com.bankingsystem.customer.repository.CustomerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,8 +31,12 @@ public class CustomerService {
 
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
-    private final NotificationClient notificationClient;
+    private final OutboxService outboxService;
 
+    @Value("${customer.batch.max-size:500}")
+    private int maxBatchSize;
+
+    @Transactional
     public CustomerDto createCustomer(CustomerDto customerDto) {
 
         if (customerRepository.existsByEmail(customerDto.getEmail())) {
@@ -37,23 +51,18 @@ public class CustomerService {
 
         customer = customerRepository.saveAndFlush(customer);
 
-        try {
-            notificationClient.createNotification(
-                    CreateNotificationDto
-                            .builder()
-                            .customerId(customer.getId())
-                            .customerEmail(customer.getEmail())
-                            .title("Welcome to Our Platform!\n\n")
-                            .type("GENERAL")
-                            .message("Hello " + customer.getUsername()
-                                    + ", your account has been successfully created. Enjoy our services!")
-                            .build()
-            );
-
-            log.info("Notification sent successfully for customer id {}", customer.getId());
-        } catch (Exception e) {
-            log.error("Failed to send notification for customer id {}", customer.getId(), e);
-        }
+        outboxService.enqueueNotification(
+                CreateNotificationDto
+                        .builder()
+                        .customerId(customer.getId())
+                        .customerEmail(customer.getEmail())
+                        .title("Welcome to Our Platform!\n\n")
+                        .type("GENERAL")
+                        .message("Hello " + customer.getUsername()
+                                + ", your account has been successfully created. Enjoy our services!")
+                        .build()
+        );
+        outboxService.enqueueCustomerEvent(toEvent(customer, CustomerEventType.CUSTOMER_CREATED));
 
         return customerMapper.toDto(customer);
     }
@@ -74,33 +83,64 @@ public class CustomerService {
         return customerMapper.toDto(customer);
     }
 
-    public void deleteCustomer(Long id) {
-        if (!customerRepository.existsById(id)) {
-            throw new CustomerNotFoundException("Customer not found with id: " + id);
+    public List<CustomerDto> getCustomersByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidCustomerOperationException("At least one customer id is required");
         }
-        customerRepository.deleteById(id);
+        Set<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (distinctIds.size() > maxBatchSize) {
+            throw new InvalidCustomerOperationException(
+                    "Cannot fetch more than " + maxBatchSize + " customers in one request");
+        }
+
+        return customerRepository.findAllById(distinctIds)
+                .stream()
+                .map(customerMapper::toDto)
+                .toList();
     }
 
+    @Transactional
+    public void deleteCustomer(Long id) {
+        Customer customer = customerRepository.findById(id)
+                .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
+        customerRepository.delete(customer);
+
+        outboxService.enqueueCustomerEvent(toEvent(customer, CustomerEventType.CUSTOMER_DELETED));
+    }
+
+    @Transactional
     public CustomerDto updateCustomer(Long id, CustomerDto customerDto) {
         Customer existingCustomer = customerRepository.findById(id)
                 .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
 
-        Customer updatedCustomer = existingCustomer
-                .builder()
-                .firstName(customerDto.getFirstName())
-                .lastName(customerDto.getLastName())
-                .username(customerDto.getUsername())
-                .email(customerDto.getEmail())
-                .phone(customerDto.getPhone())
-                .address(customerDto.getAddress())
-                .active(customerDto.isActive())
-                .build();
+        existingCustomer.setFirstName(customerDto.getFirstName());
+        existingCustomer.setLastName(customerDto.getLastName());
+        existingCustomer.setUsername(customerDto.getUsername());
+        existingCustomer.setEmail(customerDto.getEmail());
+        existingCustomer.setPhone(customerDto.getPhone());
+        existingCustomer.setAddress(customerDto.getAddress());
+        existingCustomer.setActive(customerDto.isActive());
 
-        Customer savedCustomer = customerRepository.save(updatedCustomer);
+        Customer savedCustomer = customerRepository.save(existingCustomer);
+
+        outboxService.enqueueCustomerEvent(toEvent(savedCustomer, CustomerEventType.CUSTOMER_UPDATED));
 
         return customerMapper.toDto(savedCustomer);
     }
 
+    private CustomerEvent toEvent(Customer customer, CustomerEventType eventType) {
+        return CustomerEvent.builder()
+                .customerId(customer.getId())
+                .eventType(eventType)
+                .firstName(customer.getFirstName())
+                .lastName(customer.getLastName())
+                .email(customer.getEmail())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
 
     public CustomerDto getCustomerByUsername(String username) {
         Customer customer = customerRepository.findByUsername(username)
@@ -0,0 +1,51 @@
+package com.bankingsystem.customer.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingsystem.customer.config.OutboxConfig;
+import com.bankingsystem.customer.dto.CreateNotificationDto;
+import com.bankingsystem.customer.dto.CustomerEvent;
+import com.bankingsystem.customer.entity.OutboxMessage;
+import com.bankingsystem.customer.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxConfig outboxConfig;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String routingKey, Object payload) {
+        try {
+            outboxMessageRepository.save(OutboxMessage.builder()
+                    .routingKey(routingKey)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload for routing key " + routingKey, e);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueNotification(CreateNotificationDto notification) {
+        enqueue(outboxConfig.getNotificationRequestRoutingKey(), notification);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueCustomerEvent(CustomerEvent event) {
+        String routingKey = switch (event.getEventType()) {
+            case CUSTOMER_CREATED -> outboxConfig.getCustomerCreatedRoutingKey();
+            case CUSTOMER_UPDATED -> outboxConfig.getCustomerUpdatedRoutingKey();
+            case CUSTOMER_DELETED -> outboxConfig.getCustomerDeletedRoutingKey();
+        };
+        enqueue(routingKey, event);
+    }
+}
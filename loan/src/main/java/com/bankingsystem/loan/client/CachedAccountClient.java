@@ -0,0 +1,66 @@
+package com.bankingsystem.loan.client;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.bankingsystem.common.cache.GuardedCache;
+import com.bankingsystem.loan.dto.BankAccountDto;
+import com.bankingsystem.loan.helper.ApiResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class CachedAccountClient {
+
+    private final AccountClient accountClient;
+    private final GuardedCache<Long, BankAccountDto> accounts;
+    private final boolean enabled;
+
+    public CachedAccountClient(AccountClient accountClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${account.cache.enabled:true}") boolean enabled,
+                               @Value("${account.cache.ttl-seconds:60}") long ttlSeconds,
+                               @Value("${account.cache.max-size:10000}") long maxSize) {
+        this.accountClient = accountClient;
+        this.enabled = enabled;
+        this.accounts = new GuardedCache<>("accounts", Duration.ofSeconds(ttlSeconds), maxSize, meterRegistry);
+    }
+
+    // Account metadata (owner, active flag) for checks that tolerate a short staleness window
+    public ApiResponse<BankAccountDto> getAccountById(Long id) {
+        if (enabled) {
+            BankAccountDto cached = accounts.getIfPresent(id);
+            if (cached != null) {
+                return ApiResponse.<BankAccountDto>builder()
+                        .success(true)
+                        .message("Bank account retrieved successfully")
+                        .data(cached)
+                        .build();
+            }
+        }
+        return load(id);
+    }
+
+    // Always reads through to bank-account-service; use for balance-sensitive decisions
+    public ApiResponse<BankAccountDto> getAccountByIdStrict(Long id) {
+        return load(id);
+    }
+
+    public void evict(Long id) {
+        accounts.evict(id);
+        log.debug("Evicted bank account {} from cache", id);
+    }
+
+    private ApiResponse<BankAccountDto> load(Long id) {
+        long token = accounts.loadToken();
+        ApiResponse<BankAccountDto> response = accountClient.getAccountById(id);
+        if (enabled && response != null && response.isSuccess() && response.getData() != null) {
+            accounts.putIfUnchanged(token, id, response.getData());
+        }
+        return response;
+    }
+}
@@ -1,10 +1,15 @@
 package com.bankingsystem.loan.client;
 
+import com.bankingsystem.loan.dto.CustomerBatchRequest;
 import com.bankingsystem.loan.dto.CustomerDto;
 import com.bankingsystem.loan.helper.ApiResponse;
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 @FeignClient(value = "customer-service", fallback = CustomerClientFallback.class)
 public interface CustomerClient {
@@ -13,6 +18,9 @@ public interface CustomerClient {
     ApiResponse<CustomerDto> getCustomerById(@PathVariable Long id);
 
 
+    @PostMapping("/api/v1/customers/batch")
+    ApiResponse<List<CustomerDto>> getCustomersByIds(@RequestBody CustomerBatchRequest request);
+
     @GetMapping("/api/v1/customers/username/{username}")
     ApiResponse<CustomerDto> getCustomerByUsername(@PathVariable String username);
 
@@ -1,5 +1,8 @@
 package com.bankingsystem.loan.client;
 
+import java.util.List;
+
+import com.bankingsystem.loan.dto.CustomerBatchRequest;
 import com.bankingsystem.loan.dto.CustomerDto;
 import com.bankingsystem.loan.helper.ApiResponse;
 import org.springframework.stereotype.Component;
@@ -17,6 +20,16 @@ public class CustomerClientFallback implements CustomerClient {
                         .build();
     }
 
+    @Override
+    public ApiResponse<List<CustomerDto>> getCustomersByIds(CustomerBatchRequest request) {
+        return
+                ApiResponse.<List<CustomerDto>>builder()
+                        .success(false)
+                        .message("Customer service unavailable")
+                        .data(null)
+                        .build();
+    }
+
     @Override
     public ApiResponse<CustomerDto> getCustomerByUsername(String username) {
         return
@@ -0,0 +1,36 @@
+package com.bankingsystem.loan.config;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboxConfig {
+
+    @Value("${rabbitmq.exchanges.internal}")
+    private String internalExchange;
+
+    @Value("${rabbitmq.routing-keys.loan-created}")
+    private String loanCreatedRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.loan-updated}")
+    private String loanUpdatedRoutingKey;
+
+    @Bean
+    public TopicExchange internalTopicExchange() {
+        return new TopicExchange(this.internalExchange);
+    }
+
+    public String getInternalExchange() {
+        return internalExchange;
+    }
+
+    public String getLoanCreatedRoutingKey() {
+        return loanCreatedRoutingKey;
+    }
+
+    public String getLoanUpdatedRoutingKey() {
+        return loanUpdatedRoutingKey;
+    }
+}
@@ -0,0 +1,27 @@
+package com.bankingsystem.loan.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerEvent {
+
+    private Long customerId;
+
+    private String eventType;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String email;
+
+    private LocalDateTime occurredAt;
+}
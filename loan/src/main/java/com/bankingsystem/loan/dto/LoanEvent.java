@@ -0,0 +1,32 @@
+package com.bankingsystem.loan.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.bankingsystem.loan.entity.LoanStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanEvent {
+
+    private Long loanId;
+
+    private LoanEventType eventType;
+
+    private Long customerId;
+
+    private Long bankAccountId;
+
+    private LoanStatus status;
+
+    private BigDecimal amount;
+
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,6 @@
+package com.bankingsystem.loan.dto;
+
+public enum LoanEventType {
+    LOAN_CREATED,
+    LOAN_UPDATED
+}
@@ -7,6 +7,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,11 +20,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "loans")
+@Table(name = "loan_repayments", indexes = {
+        @Index(name = "idx_loan_repayments_loan_id", columnList = "loan_id")
+})
 public class LoanRepayment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_repayment_seq")
+    @SequenceGenerator(name = "loan_repayment_seq", sequenceName = "loan_repayments_pooled_seq", allocationSize = 50)
     private Long id;
 
     private Long loanId;
@@ -0,0 +1,35 @@
+package com.bankingsystem.loan.service;
+
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.bankingsystem.loan.client.CachedAccountClient;
+import com.bankingsystem.loan.dto.AccountEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountCacheInvalidationListener {
+
+    private final CachedAccountClient cachedAccountClient;
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(),
+            exchange = @Exchange(value = "${rabbitmq.exchanges.internal}", type = ExchangeTypes.TOPIC),
+            key = "${rabbitmq.routing-keys.account-events}"))
+    public void onAccountEvent(AccountEvent event) {
+        if (event.getAccountId() == null) {
+            log.warn("Ignoring account event without account id: {}", event);
+            return;
+        }
+        log.debug("Received account event version {} for account {}", event.getVersion(), event.getAccountId());
+        cachedAccountClient.evict(event.getAccountId());
+    }
+}
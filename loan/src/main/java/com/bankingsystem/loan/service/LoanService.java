@@ -2,14 +2,18 @@ package com.bankingsystem.loan.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.bankingsystem.loan.client.AccountClient;
-import com.bankingsystem.loan.client.CustomerClient;
+import com.bankingsystem.loan.client.CachedAccountClient;
+import com.bankingsystem.loan.client.CachedCustomerClient;
 import com.bankingsystem.loan.dto.BankAccountDto;
 import com.bankingsystem.loan.dto.CustomerDto;
+import com.bankingsystem.loan.dto.LoanEvent;
+import com.bankingsystem.loan.dto.LoanEventType;
 import com.bankingsystem.loan.dto.LoanRepaymentDto;
 import com.bankingsystem.loan.dto.LoanRequestDto;
 import com.bankingsystem.loan.dto.LoanResponseDto;
@@ -33,10 +37,12 @@ public class LoanService  {
 
     private final LoanRepaymentRepo loanRepaymentRepo;
 
-    private final AccountClient accountClient;
-    private final CustomerClient customerClient;
+    private final CachedAccountClient accountClient;
+    private final CachedCustomerClient customerClient;
     private final LoanMapper loanMapper;
+    private final OutboxService outboxService;
 
+    @Transactional
     public LoanResponseDto applyLoan(LoanRequestDto loanRequest) {
         validateLoanRequest(loanRequest);
 
@@ -61,6 +67,7 @@ public class LoanService  {
         loan.setDueDate(LocalDate.now().plusMonths(loanRequest.getTermInMonths()));
 
         Loan savedLoan = loanRepo.save(loan);
+        publishLoanEvent(savedLoan, LoanEventType.LOAN_CREATED);
 
         return loanMapper.loanToLoanResponseDto(savedLoan);
     }
@@ -91,6 +98,7 @@ public class LoanService  {
         return loanMapper.loansToLoanResponseDtos(loans);
     }
 
+    @Transactional
     public LoanResponseDto approveLoan(Long loanId) {
         Loan loan = loanRepo.findById(loanId)
                 .orElseThrow(() -> new LoanValidationException("Loan not found with id: " + loanId));
@@ -101,10 +109,12 @@ public class LoanService  {
 
         loan.setStatus(LoanStatus.APPROVED);
         Loan updatedLoan = loanRepo.save(loan);
+        publishLoanEvent(updatedLoan, LoanEventType.LOAN_UPDATED);
 
         return loanMapper.loanToLoanResponseDto(updatedLoan);
     }
 
+    @Transactional
     public LoanResponseDto rejectLoan(Long loanId) {
         Loan loan = loanRepo.findById(loanId)
                 .orElseThrow(() -> new LoanValidationException("Loan not found with id: " + loanId));
@@ -115,10 +125,12 @@ public class LoanService  {
 
         loan.setStatus(LoanStatus.REJECTED);
         Loan updatedLoan = loanRepo.save(loan);
+        publishLoanEvent(updatedLoan, LoanEventType.LOAN_UPDATED);
 
         return loanMapper.loanToLoanResponseDto(updatedLoan);
     }
 
+    @Transactional
     public LoanResponseDto markLoanAsPaid(Long loanId) {
         Loan loan = loanRepo.findById(loanId)
                 .orElseThrow(() -> new LoanValidationException("Loan not found with id: " + loanId));
@@ -129,6 +141,7 @@ public class LoanService  {
 
         loan.setStatus(LoanStatus.PAID);
         Loan updatedLoan = loanRepo.save(loan);
+        publishLoanEvent(updatedLoan, LoanEventType.LOAN_UPDATED);
 
         return loanMapper.loanToLoanResponseDto(updatedLoan);
     }
@@ -195,6 +208,7 @@ public class LoanService  {
         return loanMapper.loansToLoanResponseDtos(loans);
     }
 
+    @Transactional
     public LoanResponseDto cancelLoan(Long loanId) {
         Loan loan = loanRepo.findById(loanId)
                 .orElseThrow(() -> new LoanValidationException("Loan not found with id: " + loanId));
@@ -205,6 +219,7 @@ public class LoanService  {
 
         loan.setStatus(LoanStatus.CANCELLED);
         Loan updatedLoan = loanRepo.save(loan);
+        publishLoanEvent(updatedLoan, LoanEventType.LOAN_UPDATED);
 
         return loanMapper.loanToLoanResponseDto(updatedLoan);
     }
@@ -236,4 +251,15 @@ public class LoanService  {
         return loanMapper.loansToLoanResponseDtos(loans);
     }
 
+    private void publishLoanEvent(Loan loan, LoanEventType eventType) {
+        outboxService.enqueueLoanEvent(LoanEvent.builder()
+                .loanId(loan.getId())
+                .eventType(eventType)
+                .customerId(loan.getCustomerId())
+                .bankAccountId(loan.getBankAccountId())
+                .status(loan.getStatus())
+                .amount(loan.getAmount())
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
 }
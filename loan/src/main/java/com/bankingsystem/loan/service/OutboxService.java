@@ -0,0 +1,44 @@
+package com.bankingsystem.loan.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingsystem.loan.config.OutboxConfig;
+import com.bankingsystem.loan.dto.LoanEvent;
+import com.bankingsystem.loan.entity.OutboxMessage;
+import com.bankingsystem.loan.repository.OutboxMessageRepo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxMessageRepo outboxMessageRepo;
+    private final OutboxConfig outboxConfig;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String routingKey, Object payload) {
+        try {
+            outboxMessageRepo.save(OutboxMessage.builder()
+                    .routingKey(routingKey)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload for routing key " + routingKey, e);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueLoanEvent(LoanEvent event) {
+        String routingKey = switch (event.getEventType()) {
+            case LOAN_CREATED -> outboxConfig.getLoanCreatedRoutingKey();
+            case LOAN_UPDATED -> outboxConfig.getLoanUpdatedRoutingKey();
+        };
+        enqueue(routingKey, event);
+    }
+}
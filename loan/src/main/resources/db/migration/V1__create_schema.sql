@@ -0,0 +1,23 @@
+CREATE TABLE IF NOT EXISTS loans (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_id     BIGINT,
+    bank_account_id BIGINT,
+    amount          NUMERIC(38, 2),
+    term_in_months  INTEGER,
+    interest_rate   DOUBLE PRECISION,
+    status          VARCHAR(255),
+    created_at      DATE,
+    due_date        DATE
+);
+
+CREATE TABLE IF NOT EXISTS loan_repayments (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    loan_id      BIGINT,
+    due_date     DATE,
+    amount       NUMERIC(38, 2),
+    is_paid      BOOLEAN,
+    payment_date DATE,
+    amount_paid  NUMERIC(38, 2),
+    late_fee     NUMERIC(38, 2),
+    created_at   DATE
+);
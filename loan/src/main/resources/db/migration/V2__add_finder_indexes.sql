@@ -0,0 +1,11 @@
+-- findByCustomerId
+CREATE INDEX IF NOT EXISTS idx_loans_customer_id_status
+    ON loans (customer_id, status);
+
+-- findByStatus
+CREATE INDEX IF NOT EXISTS idx_loans_status
+    ON loans (status);
+
+-- findByLoanId
+CREATE INDEX IF NOT EXISTS idx_loan_repayments_loan_id
+    ON loan_repayments (loan_id);
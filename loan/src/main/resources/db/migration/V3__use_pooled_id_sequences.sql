@@ -0,0 +1,9 @@
+CREATE SEQUENCE IF NOT EXISTS loans_pooled_seq INCREMENT BY 50;
+SELECT setval('loans_pooled_seq', COALESCE(MAX(id), 0) + 50, false) FROM loans;
+ALTER TABLE loans ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE loans ALTER COLUMN id SET DEFAULT nextval('loans_pooled_seq');
+
+CREATE SEQUENCE IF NOT EXISTS loan_repayments_pooled_seq INCREMENT BY 50;
+SELECT setval('loan_repayments_pooled_seq', COALESCE(MAX(id), 0) + 50, false) FROM loan_repayments;
+ALTER TABLE loan_repayments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE loan_repayments ALTER COLUMN id SET DEFAULT nextval('loan_repayments_pooled_seq');
@@ -0,0 +1,9 @@
+CREATE SEQUENCE IF NOT EXISTS outbox_messages_pooled_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id          BIGINT       NOT NULL DEFAULT nextval('outbox_messages_pooled_seq') PRIMARY KEY,
+    routing_key VARCHAR(255) NOT NULL,
+    payload     TEXT         NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    attempts    INTEGER      NOT NULL
+);
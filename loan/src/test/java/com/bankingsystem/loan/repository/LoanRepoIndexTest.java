@@ -0,0 +1,30 @@
+package com.bankingsystem.loan.repository;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+
+import com.bankingsystem.testsupport.AbstractRepoIndexTest;
+
+class LoanRepoIndexTest extends AbstractRepoIndexTest {
+
+    @Test
+    void findByCustomerIdUsesCustomerIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM loans WHERE customer_id = 42");
+    }
+
+    @Test
+    void findByStatusUsesStatusIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM loans WHERE status = 'ACTIVE'");
+    }
+
+    @Test
+    void findByLoanIdUsesRepaymentIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM loan_repayments WHERE loan_id = 42");
+    }
+
+    @Test
+    void outboxBatchUsesPrimaryKey() throws SQLException {
+        assertUsesIndex("SELECT * FROM outbox_messages ORDER BY id LIMIT 100 FOR UPDATE SKIP LOCKED");
+    }
+}
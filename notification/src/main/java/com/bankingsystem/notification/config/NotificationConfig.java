@@ -3,6 +3,7 @@ package com.bankingsystem.notification.config;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
@@ -19,9 +20,18 @@ public class NotificationConfig {
     @Value("${rabbitmq.queues.notification}")
     private String notificationQueue;
 
+    @Value("${rabbitmq.queues.notification-parking-lot}")
+    private String notificationParkingLotQueue;
+
     @Value("${rabbitmq.routing-keys.internal-notification}")
     private String internalNotificationRoutingKey;
 
+    @Value("${rabbitmq.queues.notification-request}")
+    private String notificationRequestQueue;
+
+    @Value("${rabbitmq.routing-keys.notification-request}")
+    private String notificationRequestRoutingKey;
+
     @Bean
     public TopicExchange internalTopicExchange() {
         return new TopicExchange(this.internalExchange);
@@ -34,7 +44,10 @@ public class NotificationConfig {
 
     @Bean
     public Queue notificationQueue() {
-        return new Queue(this.notificationQueue);
+        return QueueBuilder.durable(this.notificationQueue)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(this.notificationParkingLotQueue)
+                .build();
     }
 
     @Bean
@@ -45,6 +58,19 @@ public class NotificationConfig {
                 .with(this.internalNotificationRoutingKey);
     }
 
+    @Bean
+    public Queue notificationRequestQueue() {
+        return new Queue(this.notificationRequestQueue);
+    }
+
+    @Bean
+    public Binding internalToNotificationRequestBinding() {
+        return BindingBuilder
+                .bind(notificationRequestQueue())
+                .to(internalTopicExchange())
+                .with(this.notificationRequestRoutingKey);
+    }
+
     public String getInternalExchange() {
         return internalExchange;
     }
@@ -0,0 +1,70 @@
+package com.bankingsystem.notification.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class NotificationConsumerConfig {
+
+    @Value("${notification.consumer.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notification.consumer.receive-timeout-ms:1000}")
+    private long receiveTimeoutMs;
+
+    @Value("${notification.consumer.prefetch:250}")
+    private int prefetch;
+
+    @Value("${notification.consumer.concurrency:2}")
+    private int concurrency;
+
+    @Value("${notification.consumer.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${notification.delivery.pool-size:4}")
+    private int deliveryPoolSize;
+
+    @Value("${notification.delivery.queue-capacity:100}")
+    private int deliveryQueueCapacity;
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        // Prefetch must cover a full batch or the consumer waits on the broker instead of the timeout
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(Math.max(concurrency, maxConcurrency));
+        // NotificationConsumer acks each message itself instead of the container settling the whole batch
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor notificationDeliveryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(deliveryPoolSize);
+        executor.setMaxPoolSize(deliveryPoolSize);
+        executor.setQueueCapacity(deliveryQueueCapacity);
+        executor.setThreadNamePrefix("notification-delivery-");
+        // Back-pressure: when the pool is saturated the listener thread delivers the chunk itself
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,98 @@
+package com.bankingsystem.notification.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class NotificationRetryConfig {
+
+    @Value("${rabbitmq.queues.notification}")
+    private String notificationQueue;
+
+    @Value("${rabbitmq.queues.notification-retry-prefix}")
+    private String retryQueuePrefix;
+
+    @Value("${rabbitmq.queues.notification-parking-lot}")
+    private String parkingLotQueue;
+
+    @Value("${rabbitmq.queues.notification-request}")
+    private String requestQueue;
+
+    @Value("${rabbitmq.queues.notification-request-retry-prefix}")
+    private String requestRetryQueuePrefix;
+
+    @Value("${rabbitmq.queues.notification-request-parking-lot}")
+    private String requestParkingLotQueue;
+
+    @Value("${notification.retry.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${notification.retry.initial-delay-ms:5000}")
+    private long initialDelayMs;
+
+    @Value("${notification.retry.multiplier:4}")
+    private double multiplier;
+
+    // Each retry tier is a TTL queue without consumers that dead-letters back into the queue it came from.
+    // Delivery and request failures get the same tiers, each returning to its own queue
+    @Bean
+    public Declarables notificationRetryQueues() {
+        List<Declarable> queues = new ArrayList<>();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            queues.add(retryTier(getRetryQueue(attempt), attempt, this.notificationQueue));
+            queues.add(retryTier(getRequestRetryQueue(attempt), attempt, this.requestQueue));
+        }
+        return new Declarables(queues);
+    }
+
+    @Bean
+    public Queue notificationParkingLotQueue() {
+        return QueueBuilder.durable(this.parkingLotQueue).build();
+    }
+
+    @Bean
+    public Queue notificationRequestParkingLotQueue() {
+        return QueueBuilder.durable(this.requestParkingLotQueue).build();
+    }
+
+    private Queue retryTier(String name, int attempt, String returnTo) {
+        return QueueBuilder.durable(name)
+                .ttl((int) getRetryDelayMs(attempt))
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(returnTo)
+                .build();
+    }
+
+    public long getRetryDelayMs(int attempt) {
+        return (long) (initialDelayMs * Math.pow(multiplier, attempt - 1));
+    }
+
+    // The delay is part of the name so changing the backoff never clashes with an existing queue's TTL
+    public String getRetryQueue(int attempt) {
+        return retryQueuePrefix + "." + getRetryDelayMs(attempt) + "ms";
+    }
+
+    public String getRequestRetryQueue(int attempt) {
+        return requestRetryQueuePrefix + "." + getRetryDelayMs(attempt) + "ms";
+    }
+
+    public String getParkingLotQueue() {
+        return parkingLotQueue;
+    }
+
+    public String getRequestParkingLotQueue() {
+        return requestParkingLotQueue;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+}
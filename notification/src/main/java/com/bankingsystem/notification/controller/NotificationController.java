@@ -2,6 +2,7 @@ package com.bankingsystem.notification.controller;
 import java.util.List;
 import java.util.UUID;
 
+import com.bankingsystem.notification.service.NotificationRetryHandler;
 import com.bankingsystem.notification.service.NotificationService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationRetryHandler notificationRetryHandler;
 
     @PostMapping
     public ResponseEntity<ApiResponse<Void>> createNotification(
@@ -55,4 +57,27 @@ public class NotificationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/dead-letters/count")
+    public ResponseEntity<ApiResponse<Long>> countDeadLetters() {
+        long count = notificationRetryHandler.countParked();
+        ApiResponse<Long> response = ApiResponse.<Long>builder()
+                .success(true)
+                .message("Dead-lettered notifications counted successfully")
+                .data(count)
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/dead-letters/replay")
+    public ResponseEntity<ApiResponse<Integer>> replayDeadLetters(
+            @RequestParam(defaultValue = "100") int limit) {
+        int replayed = notificationRetryHandler.replayParked(limit);
+        ApiResponse<Integer> response = ApiResponse.<Integer>builder()
+                .success(true)
+                .message("Dead-lettered notifications replayed successfully")
+                .data(replayed)
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
 }
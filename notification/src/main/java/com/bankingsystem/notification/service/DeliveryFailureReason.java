@@ -0,0 +1,21 @@
+package com.bankingsystem.notification.service;
+
+public enum DeliveryFailureReason {
+
+    CONNECTION_UNAVAILABLE(true),
+    SMTP_ERROR(true),
+    INTERRUPTED(true),
+    UNEXPECTED_ERROR(true),
+    INVALID_RECIPIENT(false),
+    INVALID_MESSAGE(false);
+
+    private final boolean retryable;
+
+    DeliveryFailureReason(boolean retryable) {
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -1,12 +1,22 @@
 package com.bankingsystem.notification.service;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
 
 import com.bankingsystem.notification.dto.NotificationDto;
+import com.rabbitmq.client.Channel;
 
 @Component
 @AllArgsConstructor
@@ -14,22 +24,49 @@ import com.bankingsystem.notification.dto.NotificationDto;
 public class NotificationConsumer {
 
     private final NotificationDeliveryService deliveryService;
+    private final NotificationRetryHandler retryHandler;
+
+    @RabbitListener(queues = "${rabbitmq.queues.notification}", containerFactory = "batchListenerContainerFactory")
+    public void receiveNotifications(List<Message<NotificationDto>> messages, Channel channel) throws IOException {
 
-    @RabbitListener(queues = "${rabbitmq.queues.notification}")
-    public void receiveNotification(NotificationDto notificationDto) {
+        log.info("Received batch of {} notifications", messages.size());
 
-        log.info("Received {} notification for customer {}: {}",
-                notificationDto.getType(),
-                notificationDto.getCustomerId(),
-                notificationDto.getMessage());
+        List<NotificationDto> notifications = new ArrayList<>(messages.size());
+        Map<NotificationDto, Integer> retryCounts = new IdentityHashMap<>();
+        for (Message<NotificationDto> message : messages) {
+            Object retryCount = message.getHeaders().get(NotificationRetryHandler.RETRY_COUNT_HEADER);
+            retryCounts.put(message.getPayload(), retryCount instanceof Number number ? number.intValue() : 0);
+            notifications.add(message.getPayload());
+        }
 
+        Map<NotificationDto, DeliveryFailureReason> failures;
         try {
-            deliveryService.sendNotification(notificationDto);
+            failures = deliveryService.sendNotifications(notifications);
         } catch (Exception e) {
-            log.error("Failed to send {} notification to customer {}: {}",
-                    notificationDto.getType(),
-                    notificationDto.getCustomerId(),
-                    e.getMessage());
+            log.error("Failed to deliver batch of {} notifications: {}", notifications.size(), e.getMessage());
+            failures = new IdentityHashMap<>();
+            for (NotificationDto notification : notifications) {
+                failures.put(notification, DeliveryFailureReason.UNEXPECTED_ERROR);
+            }
+        }
+
+        // Each message is settled on its own, so a retry that cannot be published requeues only that message
+        for (Message<NotificationDto> message : messages) {
+            long deliveryTag = (Long) message.getHeaders().get(AmqpHeaders.DELIVERY_TAG);
+            NotificationDto notification = message.getPayload();
+            DeliveryFailureReason reason = failures.get(notification);
+            if (reason == null) {
+                channel.basicAck(deliveryTag, false);
+                continue;
+            }
+            try {
+                retryHandler.handleFailure(notification, retryCounts.get(notification), reason);
+                channel.basicAck(deliveryTag, false);
+            } catch (AmqpException e) {
+                log.warn("Could not schedule a retry for notification {}, requeueing it: {}",
+                        notification.getId(), e.getMessage());
+                channel.basicNack(deliveryTag, false, true);
+            }
         }
     }
-}
\ No newline at end of file
+}
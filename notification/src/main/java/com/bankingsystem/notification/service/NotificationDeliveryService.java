@@ -1,12 +1,18 @@
 package com.bankingsystem.notification.service;
 
-import org.springframework.mail.MailException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import com.bankingsystem.notification.dto.NotificationDto;
-import com.bankingsystem.notification.entity.Notification;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -19,6 +25,11 @@ import lombok.extern.slf4j.Slf4j;
 public class NotificationDeliveryService {
 
     private final JavaMailSender mailSender;
+    private final ThreadPoolTaskExecutor notificationDeliveryExecutor;
+    private final SmtpDeliveryEngine deliveryEngine;
+
+    @Value("${notification.delivery.chunk-size:50}")
+    private int chunkSize;
 
     public void sendNotification(NotificationDto notificationDto) {
         switch (notificationDto.getType()) {
@@ -35,18 +46,27 @@ public class NotificationDeliveryService {
         }
     }
 
-    private void sendEmail(NotificationDto notificationDto) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true);
+    public Map<NotificationDto, DeliveryFailureReason> sendNotifications(List<NotificationDto> notifications) {
+        List<CompletableFuture<Map<NotificationDto, DeliveryFailureReason>>> deliveries = new ArrayList<>();
 
-            helper.setTo(notificationDto.getCustomerEmail());
-
-            helper.setSubject("Bank Notification: " + notificationDto.getType());
+        for (int from = 0; from < notifications.size(); from += chunkSize) {
+            List<NotificationDto> chunk = notifications.subList(from,
+                    Math.min(from + chunkSize, notifications.size()));
+            deliveries.add(CompletableFuture.supplyAsync(() -> sendEmails(chunk), notificationDeliveryExecutor));
+        }
 
-            helper.setText(notificationDto.getTitle() + "\n\n" + notificationDto.getMessage());
+        Map<NotificationDto, DeliveryFailureReason> failures = new IdentityHashMap<>();
+        for (CompletableFuture<Map<NotificationDto, DeliveryFailureReason>> delivery : deliveries) {
+            failures.putAll(delivery.join());
+        }
+        return failures;
+    }
 
-            mailSender.send(message);
+    private void sendEmail(NotificationDto notificationDto) {
+        try {
+            if (!deliveryEngine.deliver(List.of(buildMessage(notificationDto))).isEmpty()) {
+                throw new MessagingException("SMTP delivery failed");
+            }
 
             log.info("Sent {} email to customer {} ({}) : {}",
                     notificationDto.getType(),
@@ -54,7 +74,7 @@ public class NotificationDeliveryService {
                     notificationDto.getCustomerEmail(),
                     notificationDto.getMessage());
 
-        } catch (MailException | MessagingException e) {
+        } catch (MessagingException e) {
             log.error("Failed to send {} email to customer {} ({}): {}",
                     notificationDto.getType(),
                     notificationDto.getCustomerId(),
@@ -64,4 +84,54 @@ public class NotificationDeliveryService {
         }
     }
 
-}
\ No newline at end of file
+    private Map<NotificationDto, DeliveryFailureReason> sendEmails(List<NotificationDto> notifications) {
+        Map<NotificationDto, DeliveryFailureReason> failures = new IdentityHashMap<>();
+        Map<MimeMessage, NotificationDto> messages = new IdentityHashMap<>();
+        List<MimeMessage> outgoing = new ArrayList<>(notifications.size());
+
+        for (NotificationDto notificationDto : notifications) {
+            if (notificationDto.getType() == null) {
+                log.error("Skipping notification {} without a type", notificationDto.getId());
+                failures.put(notificationDto, DeliveryFailureReason.INVALID_MESSAGE);
+                continue;
+            }
+            try {
+                MimeMessage message = buildMessage(notificationDto);
+                messages.put(message, notificationDto);
+                outgoing.add(message);
+            } catch (MessagingException e) {
+                log.error("Failed to build {} email for customer {}: {}",
+                        notificationDto.getType(), notificationDto.getCustomerId(), e.getMessage());
+                failures.put(notificationDto, DeliveryFailureReason.INVALID_MESSAGE);
+            }
+        }
+
+        if (outgoing.isEmpty()) {
+            return failures;
+        }
+
+        Map<MimeMessage, DeliveryFailureReason> failed = deliveryEngine.deliver(outgoing);
+        failed.forEach((message, reason) -> failures.put(messages.get(message), reason));
+
+        if (failed.isEmpty()) {
+            log.info("Sent {} emails", outgoing.size());
+        } else {
+            log.error("Failed to send {} of {} emails", failed.size(), outgoing.size());
+        }
+        return failures;
+    }
+
+    private MimeMessage buildMessage(NotificationDto notificationDto) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true);
+
+        helper.setTo(notificationDto.getCustomerEmail());
+
+        helper.setSubject("Bank Notification: " + notificationDto.getType());
+
+        helper.setText(notificationDto.getTitle() + "\n\n" + notificationDto.getMessage());
+
+        return message;
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.bankingsystem.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import com.bankingsystem.notification.dto.CreateNotificationDto;
+import com.bankingsystem.notification.exception.InvalidNotificationException;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRequestConsumer {
+
+    private final NotificationService notificationService;
+    private final NotificationRetryHandler retryHandler;
+
+    @RabbitListener(queues = "${rabbitmq.queues.notification-request}")
+    public void receiveNotificationRequest(CreateNotificationDto request,
+            @Header(name = NotificationRetryHandler.RETRY_COUNT_HEADER, required = false) Integer retryCount) {
+
+        log.info("Received {} notification request for customer {}", request.getType(), request.getCustomerId());
+
+        try {
+            notificationService.createNotification(request);
+        } catch (InvalidNotificationException e) {
+            log.error("Dropping invalid notification request for customer {}: {}",
+                    request.getCustomerId(), e.getMessage());
+        } catch (RuntimeException e) {
+            // Requeueing would redeliver it immediately and forever; back off through the retry tiers instead
+            retryHandler.handleRequestFailure(request, retryCount != null ? retryCount : 0, e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.bankingsystem.notification.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.bankingsystem.notification.config.NotificationConfig;
+import com.bankingsystem.notification.config.NotificationRetryConfig;
+import com.bankingsystem.notification.dto.CreateNotificationDto;
+import com.bankingsystem.notification.dto.NotificationDto;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.GetResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetryHandler {
+
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+    public static final String FAILURE_REASON_HEADER = "x-failure-reason";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final NotificationConfig notificationConfig;
+    private final NotificationRetryConfig retryConfig;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.retry.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    public void handleFailure(NotificationDto notification, int retryCount, DeliveryFailureReason reason) {
+        meterRegistry.counter("notification.delivery.failures", "reason", reason.name()).increment();
+
+        if (reason.isRetryable() && retryCount < retryConfig.getMaxAttempts()) {
+            int attempt = retryCount + 1;
+            publish(retryConfig.getRetryQueue(attempt), notification, attempt, reason.name());
+            meterRegistry.counter("notification.delivery.retries", "attempt", String.valueOf(attempt)).increment();
+            log.warn("Scheduled retry {} in {} ms for notification {} ({})",
+                    attempt, retryConfig.getRetryDelayMs(attempt), notification.getId(), reason);
+        } else {
+            publish(retryConfig.getParkingLotQueue(), notification, retryCount, reason.name());
+            meterRegistry.counter("notification.delivery.parked", "reason", reason.name()).increment();
+            log.error("Parked notification {} for customer {} after {} retries ({})",
+                    notification.getId(), notification.getCustomerId(), retryCount, reason);
+        }
+    }
+
+    // A request that could not be stored goes through the same backoff tiers and ends up in its own parking lot
+    public void handleRequestFailure(CreateNotificationDto request, int retryCount, Exception failure) {
+        String reason = failure.getClass().getSimpleName();
+        meterRegistry.counter("notification.request.failures", "reason", reason).increment();
+
+        if (retryCount < retryConfig.getMaxAttempts()) {
+            int attempt = retryCount + 1;
+            publish(retryConfig.getRequestRetryQueue(attempt), request, attempt, reason);
+            log.warn("Scheduled retry {} in {} ms for notification request for customer {}: {}",
+                    attempt, retryConfig.getRetryDelayMs(attempt), request.getCustomerId(), failure.getMessage());
+        } else {
+            publish(retryConfig.getRequestParkingLotQueue(), request, retryCount, reason);
+            meterRegistry.counter("notification.request.parked").increment();
+            log.error("Parked notification request for customer {} after {} retries: {}",
+                    request.getCustomerId(), retryCount, failure.getMessage());
+        }
+    }
+
+    public long countParked() {
+        QueueInformation queueInformation = amqpAdmin.getQueueInfo(retryConfig.getParkingLotQueue());
+        return queueInformation == null ? 0 : queueInformation.getMessageCount();
+    }
+
+    public int replayParked(int limit) {
+        int replayed = 0;
+        while (replayed < limit && replayOne()) {
+            replayed++;
+        }
+        meterRegistry.counter("notification.delivery.replayed").increment(replayed);
+        log.info("Replayed {} parked notifications", replayed);
+        return replayed;
+    }
+
+    private boolean replayOne() {
+        Boolean replayed = rabbitTemplate.execute(channel -> {
+            GetResponse response = channel.basicGet(retryConfig.getParkingLotQueue(), false);
+            if (response == null) {
+                return false;
+            }
+
+            Map<String, Object> headers = response.getProps().getHeaders() == null
+                    ? new HashMap<>()
+                    : new HashMap<>(response.getProps().getHeaders());
+            headers.remove(RETRY_COUNT_HEADER);
+            headers.remove(FAILURE_REASON_HEADER);
+            headers.remove("x-death");
+            AMQP.BasicProperties properties = response.getProps().builder().headers(headers).build();
+
+            // Ack only after the republish so a crash mid-replay leaves the message parked
+            channel.basicPublish(notificationConfig.getInternalExchange(),
+                    notificationConfig.getInternalNotificationRoutingKey(), properties, response.getBody());
+            channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
+            return true;
+        });
+        return Boolean.TRUE.equals(replayed);
+    }
+
+    // Waits for the broker's confirm, so the caller only acks the original once its retry copy is safe
+    private void publish(String queue, Object payload, int retryCount, String reason) {
+        rabbitTemplate.invoke(operations -> {
+            operations.convertAndSend("", queue, payload, message -> {
+                message.getMessageProperties().setHeader(RETRY_COUNT_HEADER, retryCount);
+                message.getMessageProperties().setHeader(FAILURE_REASON_HEADER, reason);
+                return message;
+            });
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+    }
+}
@@ -38,7 +38,7 @@ public class NotificationService {
             notificationType = NotificationType.valueOf(dto.getType().toUpperCase());
         } catch (IllegalArgumentException e) {
             log.warn("Invalid notification type: {}", dto.getType());
-            throw new RuntimeException("Invalid notification type: " + dto.getType(), e);
+            throw new InvalidNotificationException("Invalid notification type: " + dto.getType());
         }
         notification.setType(notificationType);
 
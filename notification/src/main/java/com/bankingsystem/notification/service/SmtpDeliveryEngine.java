@@ -0,0 +1,121 @@
+package com.bankingsystem.notification.service;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.bankingsystem.notification.service.SmtpTransportPool.PooledTransport;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class SmtpDeliveryEngine {
+
+    private final SmtpTransportPool transportPool;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Timer sendTimer;
+
+    public SmtpDeliveryEngine(SmtpTransportPool transportPool,
+            MeterRegistry meterRegistry,
+            @Value("${notification.smtp.rate-limit-per-second:0}") double rateLimitPerSecond,
+            @Value("${notification.smtp.rate-limit-burst:10}") int rateLimitBurst) {
+        this.transportPool = transportPool;
+        this.rateLimiter = new TokenBucketRateLimiter(rateLimitPerSecond, rateLimitBurst);
+        this.sentCounter = Counter.builder("notification.smtp.messages")
+                .tag("outcome", "sent")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.smtp.messages")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("notification.smtp.send")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("notification.smtp.connections.idle", transportPool, SmtpTransportPool::getIdleCount)
+                .register(meterRegistry);
+        Gauge.builder("notification.smtp.connections.active", transportPool, SmtpTransportPool::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    public Map<MimeMessage, DeliveryFailureReason> deliver(List<MimeMessage> messages) {
+        Map<MimeMessage, DeliveryFailureReason> failed = new IdentityHashMap<>();
+        int index = 0;
+        boolean retriedOnFreshConnection = false;
+
+        while (index < messages.size()) {
+            PooledTransport pooled;
+            try {
+                pooled = transportPool.borrow();
+            } catch (MessagingException e) {
+                log.error("Unable to obtain SMTP connection: {}", e.getMessage());
+                failRemaining(messages, index, failed, DeliveryFailureReason.CONNECTION_UNAVAILABLE);
+                break;
+            }
+
+            boolean reusable = true;
+            try {
+                while (index < messages.size() && pooled.hasCapacity()) {
+                    MimeMessage message = messages.get(index);
+                    rateLimiter.acquire();
+                    long start = System.nanoTime();
+                    try {
+                        pooled.send(message);
+                        sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        sentCounter.increment();
+                        retriedOnFreshConnection = false;
+                        index++;
+                    } catch (MessagingException e) {
+                        if (!pooled.isConnected() && !retriedOnFreshConnection) {
+                            // Connection dropped mid-session: retry this message once on a new connection
+                            reusable = false;
+                            retriedOnFreshConnection = true;
+                            break;
+                        }
+                        log.warn("Failed to send email: {}", e.getMessage());
+                        failed.put(message, classify(e));
+                        failedCounter.increment();
+                        retriedOnFreshConnection = false;
+                        index++;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failRemaining(messages, index, failed, DeliveryFailureReason.INTERRUPTED);
+                break;
+            } finally {
+                transportPool.release(pooled, reusable);
+            }
+        }
+
+        return failed;
+    }
+
+    private DeliveryFailureReason classify(MessagingException e) {
+        if (e instanceof SendFailedException sendFailed && sendFailed.getInvalidAddresses() != null
+                && sendFailed.getInvalidAddresses().length > 0) {
+            return DeliveryFailureReason.INVALID_RECIPIENT;
+        }
+        return DeliveryFailureReason.SMTP_ERROR;
+    }
+
+    private void failRemaining(List<MimeMessage> messages, int fromIndex,
+            Map<MimeMessage, DeliveryFailureReason> failed, DeliveryFailureReason reason) {
+        for (int i = fromIndex; i < messages.size(); i++) {
+            failed.put(messages.get(i), reason);
+        }
+        failedCounter.increment(messages.size() - fromIndex);
+    }
+}
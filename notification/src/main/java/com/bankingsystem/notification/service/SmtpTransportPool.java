@@ -0,0 +1,140 @@
+package com.bankingsystem.notification.service;
+
+import java.util.Date;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class SmtpTransportPool implements DisposableBean {
+
+    private static final String DEFAULT_PROTOCOL = "smtp";
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<PooledTransport> idleTransports;
+    private final Semaphore permits;
+    private final int poolSize;
+    private final int maxMessagesPerConnection;
+    private final long borrowTimeoutMs;
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender,
+            @Value("${notification.smtp.pool-size:4}") int poolSize,
+            @Value("${notification.smtp.max-messages-per-connection:100}") int maxMessagesPerConnection,
+            @Value("${notification.smtp.borrow-timeout-ms:30000}") long borrowTimeoutMs) {
+        this.mailSender = mailSender;
+        this.poolSize = poolSize;
+        this.idleTransports = new LinkedBlockingQueue<>(poolSize);
+        this.permits = new Semaphore(poolSize, true);
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+    }
+
+    public PooledTransport borrow() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("Timed out waiting for an SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for an SMTP connection", e);
+        }
+
+        try {
+            PooledTransport pooled = idleTransports.poll();
+            // isConnected() issues a NOOP, so idle connections are only probed when they are handed out
+            if (pooled != null && (!pooled.hasCapacity() || !pooled.isConnected())) {
+                pooled.close();
+                pooled = null;
+            }
+            return pooled != null ? pooled : connect();
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void release(PooledTransport pooled, boolean reusable) {
+        try {
+            if (!reusable || !pooled.hasCapacity() || !idleTransports.offer(pooled)) {
+                pooled.close();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int getIdleCount() {
+        return idleTransports.size();
+    }
+
+    public int getActiveCount() {
+        return poolSize - permits.availablePermits();
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport pooled;
+        while ((pooled = idleTransports.poll()) != null) {
+            pooled.close();
+        }
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : DEFAULT_PROTOCOL;
+        Transport transport = mailSender.getSession().getTransport(protocol);
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(),
+                mailSender.getPassword());
+        log.debug("Opened SMTP connection to {}:{}", mailSender.getHost(), mailSender.getPort());
+        return new PooledTransport(transport, maxMessagesPerConnection);
+    }
+
+    public static final class PooledTransport {
+
+        private final Transport transport;
+        private final int maxMessages;
+        private int messagesSent;
+
+        private PooledTransport(Transport transport, int maxMessages) {
+            this.transport = transport;
+            this.maxMessages = maxMessages;
+        }
+
+        public void send(MimeMessage message) throws MessagingException {
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+            messagesSent++;
+        }
+
+        public boolean isConnected() {
+            return transport.isConnected();
+        }
+
+        // Connections are recycled after a fixed number of messages to stay under provider session limits
+        public boolean hasCapacity() {
+            return messagesSent < maxMessages;
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Failed to close SMTP connection cleanly: {}", e.getMessage());
+            }
+        }
+    }
+}
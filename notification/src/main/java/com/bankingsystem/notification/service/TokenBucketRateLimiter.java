@@ -0,0 +1,41 @@
+package com.bankingsystem.notification.service;
+
+import java.util.concurrent.TimeUnit;
+
+public class TokenBucketRateLimiter {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private double availablePermits;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = Math.max(1, burst);
+        this.availablePermits = this.capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public boolean isUnlimited() {
+        return permitsPerNano <= 0;
+    }
+
+    public void acquire() throws InterruptedException {
+        if (isUnlimited()) {
+            return;
+        }
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    // Takes a permit immediately, going into debt if needed, and returns how long the caller must wait
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        availablePermits = Math.min(capacity, availablePermits + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+        availablePermits -= 1;
+        return availablePermits >= 0 ? 0 : (long) (-availablePermits / permitsPerNano);
+    }
+}
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS notifications (
+    id             UUID PRIMARY KEY,
+    customer_id    BIGINT       NOT NULL,
+    customer_email VARCHAR(255) NOT NULL,
+    title          VARCHAR(255) NOT NULL,
+    message        VARCHAR(255) NOT NULL,
+    type           VARCHAR(255) NOT NULL,
+    is_read        BOOLEAN      NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6)
+);
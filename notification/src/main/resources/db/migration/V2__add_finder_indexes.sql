@@ -0,0 +1,3 @@
+-- findByCustomerId
+CREATE INDEX IF NOT EXISTS idx_notifications_customer_id_created_at
+    ON notifications (customer_id, created_at DESC);
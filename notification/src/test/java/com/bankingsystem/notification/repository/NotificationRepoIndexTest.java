@@ -0,0 +1,15 @@
+package com.bankingsystem.notification.repository;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+
+import com.bankingsystem.testsupport.AbstractRepoIndexTest;
+
+class NotificationRepoIndexTest extends AbstractRepoIndexTest {
+
+    @Test
+    void findByCustomerIdUsesCustomerIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM notifications WHERE customer_id = 42");
+    }
+}
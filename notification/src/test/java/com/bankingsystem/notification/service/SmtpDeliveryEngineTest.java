@@ -0,0 +1,189 @@
+package com.bankingsystem.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+// Sends through a small proxy in front of GreenMail so the test can count SMTP connections and cut one mid-session
+class SmtpDeliveryEngineTest {
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private SmtpProxy proxy;
+    private SmtpTransportPool transportPool;
+    private JavaMailSenderImpl mailSender;
+
+    @AfterEach
+    void tearDown() {
+        if (transportPool != null) {
+            transportPool.destroy();
+        }
+        if (proxy != null) {
+            proxy.close();
+        }
+    }
+
+    @Test
+    void reusesPooledConnectionAcrossBatches() throws Exception {
+        SmtpDeliveryEngine engine = engine(100);
+
+        assertThat(engine.deliver(messages(3))).isEmpty();
+        assertThat(engine.deliver(messages(3))).isEmpty();
+
+        assertThat(GREEN_MAIL.getReceivedMessages()).hasSize(6);
+        assertThat(proxy.getConnections()).isEqualTo(1);
+        assertThat(transportPool.getIdleCount()).isEqualTo(1);
+        assertThat(transportPool.getActiveCount()).isZero();
+    }
+
+    @Test
+    void recyclesConnectionAfterMaxMessagesPerConnection() throws Exception {
+        SmtpDeliveryEngine engine = engine(2);
+
+        assertThat(engine.deliver(messages(5))).isEmpty();
+
+        assertThat(GREEN_MAIL.getReceivedMessages()).hasSize(5);
+        assertThat(proxy.getConnections()).isEqualTo(3);
+    }
+
+    @Test
+    void retriesOnFreshConnectionWhenConnectionDropsMidSession() throws Exception {
+        SmtpDeliveryEngine engine = engine(100);
+        assertThat(engine.deliver(messages(1))).isEmpty();
+
+        proxy.dropOnNextMessage();
+        Map<MimeMessage, DeliveryFailureReason> failed = engine.deliver(messages(3));
+
+        assertThat(failed).isEmpty();
+        assertThat(GREEN_MAIL.getReceivedMessages()).hasSize(4);
+        assertThat(proxy.getConnections()).isEqualTo(2);
+    }
+
+    private SmtpDeliveryEngine engine(int maxMessagesPerConnection) throws IOException {
+        proxy = new SmtpProxy(GREEN_MAIL.getSmtp().getPort());
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(InetAddress.getLoopbackAddress().getHostAddress());
+        mailSender.setPort(proxy.getPort());
+        transportPool = new SmtpTransportPool(mailSender, 2, maxMessagesPerConnection, 5000);
+        return new SmtpDeliveryEngine(transportPool, new SimpleMeterRegistry(), 0, 10);
+    }
+
+    private List<MimeMessage> messages(int count) throws MessagingException {
+        List<MimeMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message);
+            helper.setFrom("no-reply@bank.test");
+            helper.setTo("customer@bank.test");
+            helper.setSubject("Notification " + i);
+            helper.setText("Body " + i);
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    private static final class SmtpProxy implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final int targetPort;
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicBoolean dropOnNextMessage = new AtomicBoolean();
+        private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        private SmtpProxy(int targetPort) throws IOException {
+            this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            this.targetPort = targetPort;
+            executor.execute(this::accept);
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        int getConnections() {
+            return connections.get();
+        }
+
+        // Closes whichever connection sends the next MAIL FROM, before the server sees it
+        void dropOnNextMessage() {
+            dropOnNextMessage.set(true);
+        }
+
+        @Override
+        public void close() {
+            try {
+                serverSocket.close();
+            } catch (IOException e) {
+                // nothing left to clean up
+            }
+            executor.shutdownNow();
+        }
+
+        private void accept() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket client = serverSocket.accept();
+                    Socket server = new Socket(InetAddress.getLoopbackAddress(), targetPort);
+                    connections.incrementAndGet();
+                    executor.execute(() -> pump(server, client, false));
+                    executor.execute(() -> pump(client, server, true));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void pump(Socket from, Socket to, boolean fromClient) {
+            try (from; to) {
+                BufferedInputStream in = new BufferedInputStream(from.getInputStream());
+                OutputStream out = to.getOutputStream();
+                ByteArrayOutputStream line = new ByteArrayOutputStream();
+                int next;
+                while ((next = in.read()) != -1) {
+                    line.write(next);
+                    if (next != '\n') {
+                        continue;
+                    }
+                    if (fromClient && line.toString(StandardCharsets.US_ASCII).toUpperCase(Locale.ROOT)
+                            .startsWith("MAIL FROM") && dropOnNextMessage.compareAndSet(true, false)) {
+                        return;
+                    }
+                    line.writeTo(out);
+                    out.flush();
+                    line.reset();
+                }
+            } catch (IOException e) {
+                // the other side closed the connection
+            }
+        }
+    }
+}
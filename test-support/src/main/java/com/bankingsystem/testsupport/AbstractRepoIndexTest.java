@@ -0,0 +1,73 @@
+package com.bankingsystem.testsupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+// Runs a module's Flyway migrations against an embedded Postgres and checks that every hot finder has an index
+// to use. Sequential scans are priced out, so a plan that still scans the table means no index fits the predicate.
+// Maven runs tests from the module directory, which is where the migration location is resolved.
+public abstract class AbstractRepoIndexTest {
+
+    private static final String MIGRATIONS = "filesystem:src/main/resources/db/migration";
+
+    private static EmbeddedPostgres postgres;
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .locations(MIGRATIONS)
+                .load()
+                .migrate();
+
+        connection = postgres.getPostgresDatabase().getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException, IOException {
+        if (connection != null) {
+            connection.close();
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    // For fixtures a test needs on top of the migrations, such as a partition covering its literal dates
+    protected static void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    protected static void assertUsesIndex(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+        assertThat(plan.toString())
+                .as("plan for %s", sql)
+                .contains("Index")
+                .doesNotContain("Seq Scan");
+    }
+}
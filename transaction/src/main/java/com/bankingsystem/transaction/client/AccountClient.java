@@ -1,8 +1,15 @@
 package com.bankingsystem.transaction.client;
 
 
+import java.util.List;
+
 import com.bankingsystem.transaction.client.fallback.AccountClientFallback;
+import com.bankingsystem.transaction.dto.BalanceAdjustmentRequest;
+import com.bankingsystem.transaction.dto.BalanceBatchRequest;
+import com.bankingsystem.transaction.dto.BalanceOperationResult;
 import com.bankingsystem.transaction.dto.BankAccountDto;
+import com.bankingsystem.transaction.dto.TransferFundsRequest;
+import com.bankingsystem.transaction.dto.TransferResultDto;
 import com.bankingsystem.transaction.dto.UpdateBalanceRequest;
 import com.bankingsystem.transaction.helper.ApiResponse;
 import jakarta.validation.Valid;
@@ -10,6 +17,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
@@ -23,4 +31,15 @@ public interface AccountClient {
     ApiResponse<BankAccountDto> updateBalance(
             @PathVariable Long id,
             @Valid @RequestBody UpdateBalanceRequest request);
+
+    @PostMapping("/api/v1/bank-accounts/{id}/balance/adjust")
+    ApiResponse<BankAccountDto> adjustBalance(
+            @PathVariable Long id,
+            @Valid @RequestBody BalanceAdjustmentRequest request);
+
+    @PostMapping("/api/v1/bank-accounts/transfer")
+    ApiResponse<TransferResultDto> transfer(@Valid @RequestBody TransferFundsRequest request);
+
+    @PostMapping("/api/v1/bank-accounts/balance/batch")
+    ApiResponse<List<BalanceOperationResult>> applyBalanceBatch(@Valid @RequestBody BalanceBatchRequest request);
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.bankingsystem.transaction.client;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.bankingsystem.common.cache.GuardedCache;
+import com.bankingsystem.transaction.dto.CustomerBatchRequest;
+import com.bankingsystem.transaction.dto.CustomerDto;
+import com.bankingsystem.transaction.helper.ApiResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class CachedCustomerClient {
+
+    private final CustomerClient customerClient;
+    private final CustomerBatchLoader customerBatchLoader;
+    private final GuardedCache<Long, CustomerDto> customers;
+    private final int maxBatchSize;
+
+    public CachedCustomerClient(CustomerClient customerClient,
+                                CustomerBatchLoader customerBatchLoader,
+                                MeterRegistry meterRegistry,
+                                @Value("${customer.cache.ttl-seconds:300}") long ttlSeconds,
+                                @Value("${customer.cache.max-size:10000}") long maxSize,
+                                @Value("${customer.batch.max-size:100}") int maxBatchSize) {
+        this.customerClient = customerClient;
+        this.customerBatchLoader = customerBatchLoader;
+        this.maxBatchSize = maxBatchSize;
+        this.customers = new GuardedCache<>("customers", Duration.ofSeconds(ttlSeconds), maxSize, meterRegistry);
+    }
+
+    public ApiResponse<CustomerDto> getCustomerById(Long id) {
+        CustomerDto cached = customers.getIfPresent(id);
+        if (cached != null) {
+            return ApiResponse.<CustomerDto>builder()
+                    .success(true)
+                    .message("Customer retrieved successfully")
+                    .data(cached)
+                    .build();
+        }
+
+        long token = customers.loadToken();
+        ApiResponse<CustomerDto> response = customerBatchLoader.load(id);
+        if (response != null && response.isSuccess() && response.getData() != null) {
+            customers.putIfUnchanged(token, id, response.getData());
+        }
+        return response;
+    }
+
+    public Map<Long, CustomerDto> getCustomersByIds(Collection<Long> ids) {
+        Map<Long, CustomerDto> result = new HashMap<>(customers.getAllPresent(ids));
+        List<Long> missing = ids.stream()
+                .filter(id -> !result.containsKey(id))
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long token = customers.loadToken();
+        for (int start = 0; start < missing.size(); start += maxBatchSize) {
+            List<Long> chunk = missing.subList(start, Math.min(start + maxBatchSize, missing.size()));
+            ApiResponse<List<CustomerDto>> response = customerClient.getCustomersByIds(CustomerBatchRequest.builder()
+                    .ids(chunk)
+                    .build());
+            if (response == null || !response.isSuccess() || response.getData() == null) {
+                log.warn("Batched customer lookup failed: {}",
+                        response != null ? response.getMessage() : "no response");
+                continue;
+            }
+
+            response.getData().forEach(customer -> {
+                customers.putIfUnchanged(token, customer.getId(), customer);
+                result.put(customer.getId(), customer);
+            });
+        }
+        return result;
+    }
+
+    public void evict(Long id) {
+        customers.evict(id);
+        log.debug("Evicted customer {} from cache", id);
+    }
+}
@@ -3,11 +3,16 @@ package com.bankingsystem.transaction.client;
 
 
 import com.bankingsystem.transaction.client.fallback.CustomerClientFallback;
+import com.bankingsystem.transaction.dto.CustomerBatchRequest;
 import com.bankingsystem.transaction.dto.CustomerDto;
 import com.bankingsystem.transaction.helper.ApiResponse;
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 @FeignClient(value = "customer-service", fallback = CustomerClientFallback.class)
 public interface CustomerClient {
@@ -16,6 +21,9 @@ public interface CustomerClient {
     ApiResponse<CustomerDto> getCustomerById(@PathVariable Long id);
 
 
+    @PostMapping("/api/v1/customers/batch")
+    ApiResponse<List<CustomerDto>> getCustomersByIds(@RequestBody CustomerBatchRequest request);
+
     @GetMapping("/api/v1/customers/username/{username}")
     ApiResponse<CustomerDto> getCustomerByUsername(@PathVariable String username);
 
@@ -0,0 +1,28 @@
+package com.bankingsystem.transaction.client;
+
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RemoteCallExecutor {
+
+    private final ExecutorService executor;
+    private final long defaultTimeoutMs;
+
+    public RemoteCallExecutor(@Qualifier("remoteCallExecutorService") ExecutorService executor,
+                              @Value("${remote-calls.deadline-ms:3000}") long defaultTimeoutMs) {
+        this.executor = executor;
+        this.defaultTimeoutMs = defaultTimeoutMs;
+    }
+
+    public RemoteCallScope open() {
+        return open(defaultTimeoutMs);
+    }
+
+    public RemoteCallScope open(long timeoutMs) {
+        return new RemoteCallScope(executor, timeoutMs);
+    }
+}
@@ -0,0 +1,58 @@
+package com.bankingsystem.transaction.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.bankingsystem.transaction.exception.RemoteCallTimeoutException;
+
+public class RemoteCallScope implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final long deadlineNanos;
+    private final List<Future<?>> forks = new ArrayList<>();
+
+    RemoteCallScope(ExecutorService executor, long timeoutMs) {
+        this.executor = executor;
+        this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    }
+
+    public <T> Future<T> fork(Callable<T> call) {
+        Future<T> future = executor.submit(call);
+        forks.add(future);
+        return future;
+    }
+
+    public <T> T join(Future<T> future) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            cancelAll();
+            throw new RemoteCallTimeoutException("Remote calls did not complete within the deadline");
+        } catch (InterruptedException e) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw new RemoteCallTimeoutException("Interrupted while waiting for remote calls");
+        } catch (ExecutionException e) {
+            cancelAll();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Remote call failed", e.getCause());
+        }
+    }
+
+    private void cancelAll() {
+        forks.forEach(fork -> fork.cancel(true));
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+    }
+}
@@ -1,8 +1,15 @@
 package com.bankingsystem.transaction.client.fallback;
 
 
+import java.util.List;
+
 import com.bankingsystem.transaction.client.AccountClient;
+import com.bankingsystem.transaction.dto.BalanceAdjustmentRequest;
+import com.bankingsystem.transaction.dto.BalanceBatchRequest;
+import com.bankingsystem.transaction.dto.BalanceOperationResult;
 import com.bankingsystem.transaction.dto.BankAccountDto;
+import com.bankingsystem.transaction.dto.TransferFundsRequest;
+import com.bankingsystem.transaction.dto.TransferResultDto;
 import com.bankingsystem.transaction.dto.UpdateBalanceRequest;
 import com.bankingsystem.transaction.helper.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -33,4 +40,39 @@ public class AccountClientFallback implements AccountClient {
                 .data(null)
                 .build();
     }
+
+    @Override
+    public ApiResponse<BankAccountDto> adjustBalance(Long id, BalanceAdjustmentRequest request) {
+        log.error("Fallback triggered: Unable to adjust balance for account ID {}", id);
+
+        return ApiResponse.<BankAccountDto>builder()
+                .success(false)
+                .message("Failed to adjust account balance. Bank account service is down.")
+                .data(null)
+                .build();
+    }
+
+    @Override
+    public ApiResponse<TransferResultDto> transfer(TransferFundsRequest request) {
+        log.error("Fallback triggered: Unable to transfer funds from account ID {} to account ID {}",
+                request.getFromAccountId(), request.getToAccountId());
+
+        return ApiResponse.<TransferResultDto>builder()
+                .success(false)
+                .message("Failed to transfer funds. Bank account service is down.")
+                .data(null)
+                .build();
+    }
+
+    @Override
+    public ApiResponse<List<BalanceOperationResult>> applyBalanceBatch(BalanceBatchRequest request) {
+        log.error("Fallback triggered: Unable to apply balance batch of {} operations",
+                request.getOperations() != null ? request.getOperations().size() : 0);
+
+        return ApiResponse.<List<BalanceOperationResult>>builder()
+                .success(false)
+                .message("Failed to apply balance batch. Bank account service is down.")
+                .data(null)
+                .build();
+    }
 }
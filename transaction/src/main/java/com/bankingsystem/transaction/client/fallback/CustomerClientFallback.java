@@ -2,7 +2,10 @@ package com.bankingsystem.transaction.client.fallback;
 
 
 
+import java.util.List;
+
 import com.bankingsystem.transaction.client.CustomerClient;
+import com.bankingsystem.transaction.dto.CustomerBatchRequest;
 import com.bankingsystem.transaction.dto.CustomerDto;
 import com.bankingsystem.transaction.helper.ApiResponse;
 import org.springframework.stereotype.Component;
@@ -20,6 +23,16 @@ public class CustomerClientFallback implements CustomerClient {
                         .build();
     }
 
+    @Override
+    public ApiResponse<List<CustomerDto>> getCustomersByIds(CustomerBatchRequest request) {
+        return
+                ApiResponse.<List<CustomerDto>>builder()
+                        .success(false)
+                        .message("Customer service unavailable")
+                        .data(null)
+                        .build();
+    }
+
     @Override
     public ApiResponse<CustomerDto> getCustomerByUsername(String username) {
         return
@@ -151,6 +151,16 @@ public class GlobalExceptionHandler {
 
 
 
+    @ExceptionHandler(RemoteCallTimeoutException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRemoteCallTimeout(RemoteCallTimeoutException ex) {
+        log.warn("Remote call deadline exceeded: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(ApiResponse.<Void>builder()
+                        .success(false)
+                        .message(ex.getMessage())
+                        .build());
+    }
+
     @ExceptionHandler(NotificationClientException.class)
     public ResponseEntity<String> handleNotificationClient(NotificationClientException ex) {
         log.error("Notification client failed: {}", ex.getMessage(), ex);
@@ -0,0 +1,43 @@
+package com.bankingsystem.transaction.config;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboxConfig {
+
+    @Value("${rabbitmq.exchanges.internal}")
+    private String internalExchange;
+
+    @Value("${rabbitmq.routing-keys.notification-request}")
+    private String notificationRequestRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.transfer-request}")
+    private String transferRequestRoutingKey;
+
+    @Value("${rabbitmq.routing-keys.transfer-status}")
+    private String transferStatusRoutingKey;
+
+    @Bean
+    public TopicExchange internalTopicExchange() {
+        return new TopicExchange(this.internalExchange);
+    }
+
+    public String getInternalExchange() {
+        return internalExchange;
+    }
+
+    public String getNotificationRequestRoutingKey() {
+        return notificationRequestRoutingKey;
+    }
+
+    public String getTransferRequestRoutingKey() {
+        return transferRequestRoutingKey;
+    }
+
+    public String getTransferStatusRoutingKey() {
+        return transferStatusRoutingKey;
+    }
+}
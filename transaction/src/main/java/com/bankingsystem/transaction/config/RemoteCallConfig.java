@@ -0,0 +1,16 @@
+package com.bankingsystem.transaction.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RemoteCallConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService remoteCallExecutorService() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("remote-call-", 0).factory());
+    }
+}
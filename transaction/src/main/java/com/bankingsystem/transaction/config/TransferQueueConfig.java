@@ -0,0 +1,33 @@
+package com.bankingsystem.transaction.config;
+
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TransferQueueConfig {
+
+    @Value("${rabbitmq.queues.transfer-request}")
+    private String transferRequestQueue;
+
+    @Value("${rabbitmq.routing-keys.transfer-request}")
+    private String transferRequestRoutingKey;
+
+    @Bean
+    public Queue transferRequestQueue() {
+        return QueueBuilder.durable(transferRequestQueue).build();
+    }
+
+    @Bean
+    public Binding transferRequestBinding(Queue transferRequestQueue, TopicExchange internalTopicExchange) {
+        return BindingBuilder
+                .bind(transferRequestQueue)
+                .to(internalTopicExchange)
+                .with(transferRequestRoutingKey);
+    }
+}
@@ -1,15 +1,33 @@
 package com.bankingsystem.transaction.controller;
 
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import com.bankingsystem.transaction.service.BalanceSnapshotService;
+import com.bankingsystem.transaction.service.TransactionBatchService;
+import com.bankingsystem.transaction.service.TransactionExportService;
 import com.bankingsystem.transaction.service.TransactionService;
+import com.bankingsystem.transaction.service.TransferStatusNotifier;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.bankingsystem.transaction.dto.BalanceAsOfResponse;
+import com.bankingsystem.transaction.dto.BatchTransactionRequest;
+import com.bankingsystem.transaction.dto.BatchTransactionResponse;
 import com.bankingsystem.transaction.dto.DepositRequest;
 import com.bankingsystem.transaction.dto.TransactionDateRangeRequest;
+import com.bankingsystem.transaction.dto.TransactionExportFormat;
+import com.bankingsystem.transaction.dto.TransactionPageResponse;
 import com.bankingsystem.transaction.dto.TransactionResponse;
 import com.bankingsystem.transaction.dto.TransferRequest;
+import com.bankingsystem.transaction.dto.TransferStatusResponse;
 import com.bankingsystem.transaction.dto.WithdrawRequest;
 import com.bankingsystem.transaction.helper.ApiResponse;
 
@@ -24,6 +42,10 @@ import lombok.extern.slf4j.Slf4j;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionBatchService transactionBatchService;
+    private final TransactionExportService transactionExportService;
+    private final TransferStatusNotifier transferStatusNotifier;
+    private final BalanceSnapshotService balanceSnapshotService;
 
     @PostMapping("/deposit")
     public ResponseEntity<ApiResponse<TransactionResponse>> deposit(@RequestBody DepositRequest depositRequest) {
@@ -62,20 +84,134 @@ public class TransactionController {
         return ResponseEntity.ok(apiResponse);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<BatchTransactionResponse>> submitBatch(
+            @Valid @RequestBody BatchTransactionRequest batchRequest) {
+
+        BatchTransactionResponse response = transactionBatchService.submitBatch(batchRequest.getItems());
+        ApiResponse<BatchTransactionResponse> apiResponse = ApiResponse.<BatchTransactionResponse>builder()
+                .success(response.getFailed() == 0)
+                .message(response.getSucceeded() + " of " + response.getTotal() + " transactions processed successfully")
+                .data(response)
+                .build();
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    @PostMapping("/transfer/async")
+    public ResponseEntity<ApiResponse<TransferStatusResponse>> submitTransfer(
+            @Valid @RequestBody TransferRequest transferRequest) {
+
+        TransferStatusResponse status = transactionService.submitTransfer(transferRequest);
+        ApiResponse<TransferStatusResponse> apiResponse = ApiResponse.<TransferStatusResponse>builder()
+                .success(true)
+                .message("Transfer accepted for processing")
+                .data(status)
+                .build();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/transactions/" + status.getTransactionId() + "/status"))
+                .body(apiResponse);
+    }
+
+    @GetMapping("/{id}/status")
+    public ResponseEntity<ApiResponse<TransferStatusResponse>> getTransactionStatus(@PathVariable Long id) {
+        TransferStatusResponse status = transactionService.getTransactionStatus(id);
+        ApiResponse<TransferStatusResponse> apiResponse = ApiResponse.<TransferStatusResponse>builder()
+                .success(true)
+                .message("Transaction status fetched successfully")
+                .data(status)
+                .build();
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTransactionStatus(@PathVariable Long id) {
+        return transferStatusNotifier.subscribe(id, () -> transactionService.getTransactionStatus(id));
+    }
+
     @PostMapping("/transactions-between")
-    public ResponseEntity<ApiResponse<List<TransactionResponse>>> getTransactionsBetweenDates(
-            @RequestBody TransactionDateRangeRequest dateRangeRequest) {
+    public ResponseEntity<ApiResponse<TransactionPageResponse>> getTransactionsBetweenDates(
+            @Valid @RequestBody TransactionDateRangeRequest dateRangeRequest) {
+
+        TransactionPageResponse page = transactionService.getTransactionsBetweenDates(dateRangeRequest);
+
+        ApiResponse<TransactionPageResponse> apiResponse = ApiResponse.<TransactionPageResponse>builder()
+                .success(true)
+                .message("Transactions fetched successfully")
+                .data(page)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    @GetMapping("/account/{accountId}")
+    public ResponseEntity<ApiResponse<TransactionPageResponse>> getTransactionsByAccountId(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
 
-        List<TransactionResponse> responseList = transactionService.getTransactionsBetweenDates(dateRangeRequest);
-                
+        TransactionPageResponse page = transactionService.getTransactionPage(accountId, cursor, size);
 
-        ApiResponse<List<TransactionResponse>> apiResponse = ApiResponse.<List<TransactionResponse>>builder()
+        ApiResponse<TransactionPageResponse> apiResponse = ApiResponse.<TransactionPageResponse>builder()
                 .success(true)
                 .message("Transactions fetched successfully")
-                .data(responseList)
+                .data(page)
                 .build();
 
         return ResponseEntity.ok(apiResponse);
     }
 
+    @GetMapping("/account/{accountId}/balance-as-of")
+    public ResponseEntity<ApiResponse<BalanceAsOfResponse>> getBalanceAsOf(
+            @PathVariable Long accountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        BalanceAsOfResponse balance = balanceSnapshotService.getBalanceAsOf(accountId, date);
+
+        ApiResponse<BalanceAsOfResponse> apiResponse = ApiResponse.<BalanceAsOfResponse>builder()
+                .success(true)
+                .message("Balance as of " + date + " fetched successfully")
+                .data(balance)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    @GetMapping("/balance-snapshots")
+    public ResponseEntity<ApiResponse<List<BalanceAsOfResponse>>> getBalancesAsOf(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Long afterAccountId,
+            @RequestParam(defaultValue = "500") int size) {
+
+        List<BalanceAsOfResponse> balances = balanceSnapshotService.getBalancesAsOf(date, afterAccountId, size);
+
+        ApiResponse<List<BalanceAsOfResponse>> apiResponse = ApiResponse.<List<BalanceAsOfResponse>>builder()
+                .success(true)
+                .message("Balances as of " + date + " fetched successfully")
+                .data(balances)
+                .build();
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    @GetMapping("/account/{accountId}/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @PathVariable Long accountId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        TransactionExportFormat exportFormat = TransactionExportFormat.from(format);
+        LocalDateTime rangeStart = from != null ? from : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime rangeEnd = to != null ? to : LocalDateTime.now().plusDays(1);
+
+        StreamingResponseBody body = outputStream -> transactionExportService.exportTransactions(
+                accountId, rangeStart, rangeEnd, exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions-" + accountId + "." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
 }
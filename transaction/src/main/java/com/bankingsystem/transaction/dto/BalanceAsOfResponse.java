@@ -0,0 +1,26 @@
+package com.bankingsystem.transaction.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceAsOfResponse {
+
+    private Long accountId;
+
+    private LocalDate asOfDate;
+
+    private BigDecimal balance;
+
+    private LocalDate snapshotDate;
+
+    private Long lastTransactionId;
+}
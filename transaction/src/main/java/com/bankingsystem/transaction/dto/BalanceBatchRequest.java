@@ -0,0 +1,19 @@
+package com.bankingsystem.transaction.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceBatchRequest {
+
+    @NotEmpty(message = "At least one balance operation is required")
+    private List<BalanceOperation> operations;
+}
@@ -0,0 +1,23 @@
+package com.bankingsystem.transaction.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceOperation {
+
+    private BalanceOperationType type;
+
+    private Long accountId;
+
+    private Long toAccountId;
+
+    private BigDecimal amount;
+}
@@ -0,0 +1,23 @@
+package com.bankingsystem.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceOperationResult {
+
+    private int index;
+
+    private boolean success;
+
+    private String message;
+
+    private BankAccountDto account;
+
+    private BankAccountDto toAccount;
+}
@@ -0,0 +1,6 @@
+package com.bankingsystem.transaction.dto;
+
+public enum BalanceOperationType {
+    ADJUST,
+    TRANSFER
+}
@@ -23,4 +23,6 @@ private Long id;
     private String accountType;
 
     private boolean active;
+
+    private Long ledgerSequence;
 }
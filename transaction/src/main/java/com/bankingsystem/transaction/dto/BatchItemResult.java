@@ -0,0 +1,27 @@
+package com.bankingsystem.transaction.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResult {
+
+    private int index;
+
+    private boolean success;
+
+    private boolean outcomeUnknown;
+
+    private String message;
+
+    private Long transactionId;
+
+    private BigDecimal balanceAfterTransaction;
+}
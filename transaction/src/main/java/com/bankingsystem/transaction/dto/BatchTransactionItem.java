@@ -0,0 +1,27 @@
+package com.bankingsystem.transaction.dto;
+
+import java.math.BigDecimal;
+
+import com.bankingsystem.transaction.entity.TransactionType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransactionItem {
+
+    private TransactionType type;
+
+    private Long accountId;
+
+    private Long toAccountId;
+
+    private BigDecimal amount;
+
+    private String description;
+}
@@ -0,0 +1,25 @@
+package com.bankingsystem.transaction.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransactionResponse {
+
+    private int total;
+
+    private int succeeded;
+
+    private int failed;
+
+    private int unknown;
+
+    private List<BatchItemResult> results;
+}
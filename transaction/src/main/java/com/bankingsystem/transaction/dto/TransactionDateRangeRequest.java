@@ -18,4 +18,9 @@ public class TransactionDateRangeRequest {
 
     @NotNull
     private LocalDateTime to;
+
+    // nextCursor from the previous page; omit for the first one
+    private String cursor;
+
+    private Integer size;
 }
@@ -31,6 +31,8 @@ public class TransactionDto {
 
     private String referenceNumber;
 
+    private BigDecimal balanceAfter;
+
     private Long customerId;
 
     private String customerUsername;
@@ -0,0 +1,21 @@
+package com.bankingsystem.transaction.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TransactionPageResponse {
+
+    private List<TransactionResponse> transactions;
+
+    private String nextCursor;
+
+    private boolean hasMore;
+}
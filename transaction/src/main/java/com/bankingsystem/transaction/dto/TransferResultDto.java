@@ -0,0 +1,17 @@
+package com.bankingsystem.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferResultDto {
+
+    private BankAccountDto fromAccount;
+
+    private BankAccountDto toAccount;
+}
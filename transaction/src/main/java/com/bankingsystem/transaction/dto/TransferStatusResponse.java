@@ -0,0 +1,32 @@
+package com.bankingsystem.transaction.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferStatusResponse {
+
+    private Long transactionId;
+
+    private String status;
+
+    private Long fromAccountId;
+
+    private Long toAccountId;
+
+    private BigDecimal amount;
+
+    private LocalDateTime transactionDate;
+
+    private String failureReason;
+
+    private boolean completed;
+}
@@ -0,0 +1,6 @@
+package com.bankingsystem.transaction.entity;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -10,6 +10,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
@@ -20,7 +22,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_account_id_date", columnList = "account_id, transaction_date DESC, id DESC"),
+        @Index(name = "idx_transactions_transaction_date", columnList = "transaction_date")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -28,7 +33,8 @@ import lombok.NoArgsConstructor;
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transactions_pooled_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -58,4 +64,16 @@ public class Transaction {
     @Size(max = 100)
     private String referenceNumber;
 
+    @Size(max = 250)
+    private String failureReason;
+
+    private BigDecimal balanceAfter;
+
+    private BigDecimal relatedBalanceAfter;
+
+    // Ledger positions of the two balances above; the latest balance is the one with the highest sequence
+    private Long balanceSequence;
+
+    private Long relatedBalanceSequence;
+
 }
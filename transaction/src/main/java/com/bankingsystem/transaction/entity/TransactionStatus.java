@@ -2,6 +2,7 @@ package com.bankingsystem.transaction.entity;
 
 public enum TransactionStatus {
     PENDING,
+    PROCESSING,
     FAILED,
     SUCCESS,
     REVERSED,
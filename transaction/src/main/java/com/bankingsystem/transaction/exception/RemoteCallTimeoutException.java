@@ -0,0 +1,7 @@
+package com.bankingsystem.transaction.exception;
+
+public class RemoteCallTimeoutException extends RuntimeException {
+    public RemoteCallTimeoutException(String message) {
+        super(message);
+    }
+}
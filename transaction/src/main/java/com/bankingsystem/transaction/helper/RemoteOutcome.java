@@ -0,0 +1,39 @@
+package com.bankingsystem.transaction.helper;
+
+import java.net.ConnectException;
+
+import com.bankingsystem.transaction.exception.TransferException;
+
+import feign.FeignException;
+import feign.RetryableException;
+
+// What a failed call to another service proves about the remote side. A 4xx or a non-success body is a
+// rejection, and a refused connection never reached it; anything else (timeouts, 5xx, gateway errors, an
+// unreadable reply) may have arrived after the remote side committed.
+public enum RemoteOutcome {
+
+    FAILED,
+    NOT_SENT,
+    UNKNOWN;
+
+    // Spring Cloud LoadBalancer answers with this 503 itself when no instance of the service is registered
+    private static final String NO_INSTANCE_MESSAGE = "Load balancer does not contain an instance";
+
+    public static RemoteOutcome of(Throwable e) {
+        if (e instanceof FeignException.FeignClientException || e instanceof TransferException) {
+            return FAILED;
+        }
+        if (e instanceof RetryableException && e.getCause() instanceof ConnectException) {
+            return NOT_SENT;
+        }
+        if (e instanceof FeignException.ServiceUnavailable unavailable
+                && unavailable.contentUTF8().startsWith(NO_INSTANCE_MESSAGE)) {
+            return NOT_SENT;
+        }
+        return UNKNOWN;
+    }
+
+    public boolean isDefinite() {
+        return this != UNKNOWN;
+    }
+}
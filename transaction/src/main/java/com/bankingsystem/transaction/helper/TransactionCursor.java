@@ -0,0 +1,42 @@
+package com.bankingsystem.transaction.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.bankingsystem.transaction.entity.Transaction;
+import com.bankingsystem.transaction.exception.InvalidTransactionException;
+
+import lombok.Value;
+
+// Opaque keyset position: the (transactionDate, id) of the last row returned to the client
+@Value
+public class TransactionCursor {
+
+    private static final String SEPARATOR = "|";
+
+    LocalDateTime transactionDate;
+
+    Long id;
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getTransactionDate(), transaction.getId());
+    }
+
+    public String encode() {
+        String raw = transactionDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new TransactionCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidTransactionException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -81,10 +81,14 @@ public interface TransactionMapper {
         return id == null ? null : id.toString();
     }
 
-    List<TransactionResponse> toResponseList(List<Transaction> transactions);
+    default List<TransactionResponse> toResponseList(List<Transaction> transactions) {
+        return transactions.stream()
+                .map(this::toResponse)
+                .toList();
+    }
 
     default TransactionResponse toResponse(Transaction transaction) {
-        return toResponse(transaction, null, null, null);
+        return toResponse(transaction, null, transaction.getBalanceAfter(), null);
     }
 
     default Page<TransactionResponse> toResponsePage(Page<Transaction> page) {
@@ -100,6 +104,11 @@ public interface TransactionMapper {
     @Mapping(target = "relatedAccountId", source = "toAccountId")
     @Mapping(target = "description", ignore = true)
     @Mapping(target = "referenceNumber", ignore = true)
+    @Mapping(target = "failureReason", ignore = true)
+    @Mapping(target = "balanceAfter", ignore = true)
+    @Mapping(target = "relatedBalanceAfter", ignore = true)
+    @Mapping(target = "balanceSequence", ignore = true)
+    @Mapping(target = "relatedBalanceSequence", ignore = true)
     Transaction fromTransferRequest(TransferRequest request);
 
     // WithdrawRequest → Transaction
@@ -111,6 +120,11 @@ public interface TransactionMapper {
     @Mapping(target = "relatedAccountId", ignore = true)
     @Mapping(target = "description", ignore = true)
     @Mapping(target = "referenceNumber", ignore = true)
+    @Mapping(target = "failureReason", ignore = true)
+    @Mapping(target = "balanceAfter", ignore = true)
+    @Mapping(target = "relatedBalanceAfter", ignore = true)
+    @Mapping(target = "balanceSequence", ignore = true)
+    @Mapping(target = "relatedBalanceSequence", ignore = true)
     Transaction fromWithdrawRequest(WithdrawRequest request);
 
     // DepositRequest → Transaction
@@ -122,6 +136,11 @@ public interface TransactionMapper {
     @Mapping(target = "relatedAccountId", ignore = true)
     @Mapping(target = "description", ignore = true)
     @Mapping(target = "referenceNumber", ignore = true)
+    @Mapping(target = "failureReason", ignore = true)
+    @Mapping(target = "balanceAfter", ignore = true)
+    @Mapping(target = "relatedBalanceAfter", ignore = true)
+    @Mapping(target = "balanceSequence", ignore = true)
+    @Mapping(target = "relatedBalanceSequence", ignore = true)
     Transaction fromDepositRequest(DepositRequest request);
 
     // Enum → String
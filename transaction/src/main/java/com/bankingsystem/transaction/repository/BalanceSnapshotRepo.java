@@ -0,0 +1,72 @@
+package com.bankingsystem.transaction.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingsystem.transaction.entity.BalanceSnapshot;
+
+@Repository
+public interface BalanceSnapshotRepo extends JpaRepository<BalanceSnapshot, Long> {
+
+    // Balance on day of every account touched in [dayStart, dayEnd): the post-balance of its last transaction
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO account_balance_snapshots "
+            + "(account_id, snapshot_date, balance, last_transaction_id, created_at) "
+            + "SELECT DISTINCT ON (m.account_id) m.account_id, :day, m.balance, m.transaction_id, now() "
+            + "FROM ("
+            + "SELECT t.account_id, t.balance_after AS balance, t.balance_sequence AS seq, t.id AS transaction_id, "
+            + "t.transaction_date "
+            + "FROM transactions t WHERE t.status = 'SUCCESS' AND t.balance_after IS NOT NULL "
+            + "AND t.transaction_date >= :dayStart AND t.transaction_date < :dayEnd "
+            + "UNION ALL "
+            + "SELECT t.related_account_id, t.related_balance_after, t.related_balance_sequence, t.id, "
+            + "t.transaction_date "
+            + "FROM transactions t WHERE t.status = 'SUCCESS' AND t.related_balance_after IS NOT NULL "
+            + "AND t.related_account_id IS NOT NULL "
+            + "AND t.transaction_date >= :dayStart AND t.transaction_date < :dayEnd"
+            + ") m "
+            + "ORDER BY m.account_id, m.seq DESC NULLS LAST, m.transaction_date DESC, m.transaction_id DESC "
+            + "ON CONFLICT (account_id, snapshot_date) DO UPDATE SET balance = EXCLUDED.balance, "
+            + "last_transaction_id = EXCLUDED.last_transaction_id, created_at = EXCLUDED.created_at",
+            nativeQuery = true)
+    int snapshotDay(@Param("day") LocalDate day,
+                    @Param("dayStart") LocalDateTime dayStart,
+                    @Param("dayEnd") LocalDateTime dayEnd);
+
+    // Copies each account's latest earlier snapshot onto the day, so month-end reports read a single date.
+    // The previous month-end is already dense (V10 seeds the first one), so nothing older needs scanning
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO account_balance_snapshots "
+            + "(account_id, snapshot_date, balance, last_transaction_id, created_at) "
+            + "SELECT DISTINCT ON (s.account_id) s.account_id, :day, s.balance, s.last_transaction_id, now() "
+            + "FROM account_balance_snapshots s WHERE s.snapshot_date < :day AND s.snapshot_date >= :floor "
+            + "ORDER BY s.account_id, s.snapshot_date DESC "
+            + "ON CONFLICT (account_id, snapshot_date) DO NOTHING", nativeQuery = true)
+    int carryForward(@Param("day") LocalDate day, @Param("floor") LocalDate floor);
+
+    @Query("SELECT MAX(s.snapshotDate) FROM BalanceSnapshot s")
+    Optional<LocalDate> findLatestSnapshotDate();
+
+    Optional<BalanceSnapshot> findFirstByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+            Long accountId, LocalDate day);
+
+    // Snapshots from the previous month-end onward are enough, because month-ends are carried forward densely
+    @Query(value = "SELECT DISTINCT ON (s.account_id) s.* FROM account_balance_snapshots s "
+            + "WHERE s.snapshot_date <= :day AND s.snapshot_date >= :floor AND s.account_id > :afterAccountId "
+            + "ORDER BY s.account_id, s.snapshot_date DESC LIMIT :size", nativeQuery = true)
+    List<BalanceSnapshot> findBalancesAsOf(@Param("day") LocalDate day,
+                                           @Param("floor") LocalDate floor,
+                                           @Param("afterAccountId") Long afterAccountId,
+                                           @Param("size") int size);
+}
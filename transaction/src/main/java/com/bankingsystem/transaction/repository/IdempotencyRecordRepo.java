@@ -0,0 +1,61 @@
+package com.bankingsystem.transaction.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingsystem.transaction.entity.IdempotencyRecord;
+import com.bankingsystem.transaction.entity.IdempotencyStatus;
+
+@Repository
+public interface IdempotencyRecordRepo extends JpaRepository<IdempotencyRecord, String> {
+
+    // Returns 1 when this caller won the key, 0 when another request already holds it. An expired record
+    // counts as absent, and an IN_PROGRESS claim for the same request older than the lease is taken over
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_records (idempotency_key, request_hash, status, created_at, expires_at) "
+            + "VALUES (:key, :requestHash, 'IN_PROGRESS', :createdAt, :expiresAt) "
+            + "ON CONFLICT (idempotency_key) DO UPDATE SET request_hash = EXCLUDED.request_hash, "
+            + "status = 'IN_PROGRESS', response_status = NULL, content_type = NULL, response_body = NULL, "
+            + "created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at "
+            + "WHERE idempotency_records.expires_at < EXCLUDED.created_at "
+            + "OR (idempotency_records.status = 'IN_PROGRESS' "
+            + "AND idempotency_records.request_hash = EXCLUDED.request_hash "
+            + "AND idempotency_records.created_at < :leaseCutoff)", nativeQuery = true)
+    int claim(@Param("key") String key,
+              @Param("requestHash") String requestHash,
+              @Param("createdAt") LocalDateTime createdAt,
+              @Param("expiresAt") LocalDateTime expiresAt,
+              @Param("leaseCutoff") LocalDateTime leaseCutoff);
+
+    // created_at identifies the claim, so a request whose claim was taken over cannot overwrite the new owner
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = :status, r.responseStatus = :responseStatus, "
+            + "r.contentType = :contentType, r.responseBody = :responseBody "
+            + "WHERE r.idempotencyKey = :key AND r.createdAt = :claimedAt "
+            + "AND r.status = com.bankingsystem.transaction.entity.IdempotencyStatus.IN_PROGRESS")
+    int complete(@Param("key") String key,
+                 @Param("claimedAt") LocalDateTime claimedAt,
+                 @Param("status") IdempotencyStatus status,
+                 @Param("responseStatus") int responseStatus,
+                 @Param("contentType") String contentType,
+                 @Param("responseBody") String responseBody);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :key AND r.createdAt = :claimedAt "
+            + "AND r.status = com.bankingsystem.transaction.entity.IdempotencyStatus.IN_PROGRESS")
+    int release(@Param("key") String key, @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,22 +1,102 @@
 package com.bankingsystem.transaction.repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.bankingsystem.transaction.entity.Transaction;
 import com.bankingsystem.transaction.entity.TransactionStatus;
 import com.bankingsystem.transaction.entity.TransactionType;
 
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 public interface TransactionRepo extends JpaRepository<Transaction, Long> {
-       
-   List<Transaction> findByAccountId(Long accountId);
 
     List<Transaction> findByStatus(TransactionStatus status);
 
     List<Transaction> findByType(TransactionType type);
 
-    List<Transaction> findByTransactionDateBetween(LocalDateTime from, LocalDateTime to);
+    // The transaction_date bounds let Postgres prune every monthly partition outside the range
+    List<Transaction> findByTransactionDateBetweenOrderByTransactionDateAscIdAsc(LocalDateTime from, LocalDateTime to,
+            Limit limit);
+
+    @Query("SELECT t FROM Transaction t WHERE t.transactionDate >= :from AND t.transactionDate <= :to "
+            + "AND (t.transactionDate > :afterDate OR (t.transactionDate = :afterDate AND t.id > :afterId)) "
+            + "ORDER BY t.transactionDate ASC, t.id ASC")
+    List<Transaction> findBetweenDatesAfter(@Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
+            Limit limit);
+
+    @Query("SELECT t FROM Transaction t WHERE t.accountId = :accountId "
+            + "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<Transaction> findLatestByAccountId(@Param("accountId") Long accountId, Limit limit);
+
+    @Query("SELECT t FROM Transaction t WHERE t.accountId = :accountId "
+            + "AND (t.transactionDate < :beforeDate OR (t.transactionDate = :beforeDate AND t.id < :beforeId)) "
+            + "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<Transaction> findByAccountIdBefore(@Param("accountId") Long accountId,
+            @Param("beforeDate") LocalDateTime beforeDate,
+            @Param("beforeId") Long beforeId,
+            Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Transaction t WHERE t.accountId = :accountId "
+            + "AND t.transactionDate >= :from AND t.transactionDate < :to "
+            + "ORDER BY t.transactionDate DESC, t.id DESC")
+    Stream<Transaction> streamByAccountIdAndDateRange(@Param("accountId") Long accountId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    // Compare-and-set so a redelivered transfer job cannot move the money twice
+    @Transactional
+    @Modifying
+    @Query("UPDATE Transaction t SET t.status = :newStatus WHERE t.id = :id AND t.status = :expectedStatus")
+    int compareAndSetStatus(@Param("id") Long id,
+            @Param("expectedStatus") TransactionStatus expectedStatus,
+            @Param("newStatus") TransactionStatus newStatus);
+
+    // Post-transaction balance of the account's last successful transaction in [from, to), on either side of it.
+    // Ledger sequence decides which is last; rows written before it existed sort below every sequenced row
+    @Query(value = "SELECT m.balance AS balance, m.id AS id FROM ("
+            + "SELECT t.balance_after AS balance, t.balance_sequence AS seq, t.transaction_date, t.id "
+            + "FROM transactions t "
+            + "WHERE t.account_id = :accountId AND t.status = 'SUCCESS' AND t.balance_after IS NOT NULL "
+            + "AND t.transaction_date >= :from AND t.transaction_date < :to "
+            + "UNION ALL "
+            + "SELECT t.related_balance_after, t.related_balance_sequence, t.transaction_date, t.id "
+            + "FROM transactions t "
+            + "WHERE t.related_account_id = :accountId AND t.status = 'SUCCESS' AND t.related_balance_after IS NOT NULL "
+            + "AND t.transaction_date >= :from AND t.transaction_date < :to"
+            + ") m ORDER BY m.seq DESC NULLS LAST, m.transaction_date DESC, m.id DESC LIMIT 1", nativeQuery = true)
+    Optional<PostBalance> findLatestBalance(@Param("accountId") Long accountId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    interface PostBalance {
+
+        BigDecimal getBalance();
+
+        Long getId();
+    }
 
 }
@@ -0,0 +1,124 @@
+package com.bankingsystem.transaction.service;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.bankingsystem.transaction.dto.BalanceAsOfResponse;
+import com.bankingsystem.transaction.entity.BalanceSnapshot;
+import com.bankingsystem.transaction.exception.InvalidTransactionException;
+import com.bankingsystem.transaction.exception.TransactionNotFoundException;
+import com.bankingsystem.transaction.repository.BalanceSnapshotRepo;
+import com.bankingsystem.transaction.repository.TransactionRepo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceSnapshotService {
+
+    private final BalanceSnapshotRepo balanceSnapshotRepo;
+    private final TransactionRepo transactionRepo;
+
+    @Value("${balance-snapshots.catch-up-days:7}")
+    private int catchUpDays;
+
+    @Value("${balance-snapshots.max-scan-days:31}")
+    private int maxScanDays;
+
+    @Value("${balance-snapshots.max-page-size:1000}")
+    private int maxPageSize;
+
+    @Scheduled(cron = "${balance-snapshots.cron:0 10 0 * * *}")
+    public void materializeSnapshots() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate earliest = yesterday.minusDays(catchUpDays - 1L);
+        LocalDate day = balanceSnapshotRepo.findLatestSnapshotDate()
+                .map(latest -> latest.plusDays(1))
+                .orElse(earliest);
+
+        // Days older than the catch-up window are collapsed into one snapshot per month, but every month-end is
+        // still materialized, so the dense month-end chain that carry-forward and reports rely on never breaks
+        while (day.isBefore(earliest) && !day.isAfter(yesterday)) {
+            LocalDate monthEnd = day.with(TemporalAdjusters.lastDayOfMonth());
+            LocalDate until = monthEnd.isBefore(earliest) ? monthEnd : earliest.minusDays(1);
+            materialize(day, until);
+            day = until.plusDays(1);
+        }
+
+        // Upserts make reruns and concurrent instances harmless
+        for (; !day.isAfter(yesterday); day = day.plusDays(1)) {
+            materializeDay(day);
+        }
+    }
+
+    public void materializeDay(LocalDate day) {
+        materialize(day, day);
+    }
+
+    // Snapshots every account touched in [from, day] on day, then carries the rest forward if day is a month-end
+    private void materialize(LocalDate from, LocalDate day) {
+        int accounts = balanceSnapshotRepo.snapshotDay(day, from.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        int carried = 0;
+        if (day.equals(day.with(TemporalAdjusters.lastDayOfMonth()))) {
+            carried = balanceSnapshotRepo.carryForward(day, day.withDayOfMonth(1).minusDays(1));
+        }
+        log.info("Materialized balance snapshots for {} to {}: {} active accounts, {} carried forward",
+                from, day, accounts, carried);
+    }
+
+    public BalanceAsOfResponse getBalanceAsOf(Long accountId, LocalDate date) {
+        Optional<BalanceSnapshot> snapshot = balanceSnapshotRepo
+                .findFirstByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(accountId, date);
+
+        // Only the days after the snapshot are scanned; without one the scan is capped at max-scan-days
+        LocalDate scanFrom = snapshot.map(s -> s.getSnapshotDate().plusDays(1))
+                .orElse(date.minusDays(maxScanDays - 1L));
+        Optional<TransactionRepo.PostBalance> latest = scanFrom.isAfter(date)
+                ? Optional.empty()
+                : transactionRepo.findLatestBalance(accountId, scanFrom.atStartOfDay(), date.plusDays(1).atStartOfDay());
+
+        if (latest.isPresent()) {
+            return BalanceAsOfResponse.builder()
+                    .accountId(accountId)
+                    .asOfDate(date)
+                    .balance(latest.get().getBalance())
+                    .snapshotDate(snapshot.map(BalanceSnapshot::getSnapshotDate).orElse(null))
+                    .lastTransactionId(latest.get().getId())
+                    .build();
+        }
+
+        return snapshot.map(s -> toResponse(s, date))
+                .orElseThrow(() -> new TransactionNotFoundException(
+                        "No balance history found for account " + accountId + " on or before " + date));
+    }
+
+    public List<BalanceAsOfResponse> getBalancesAsOf(LocalDate date, Long afterAccountId, int size) {
+        if (size <= 0 || size > maxPageSize) {
+            throw new InvalidTransactionException("Page size must be between 1 and " + maxPageSize);
+        }
+        LocalDate previousMonthEnd = date.withDayOfMonth(1).minusDays(1);
+        return balanceSnapshotRepo.findBalancesAsOf(date, previousMonthEnd,
+                        afterAccountId != null ? afterAccountId : 0L, size)
+                .stream()
+                .map(s -> toResponse(s, date))
+                .toList();
+    }
+
+    private BalanceAsOfResponse toResponse(BalanceSnapshot snapshot, LocalDate date) {
+        return BalanceAsOfResponse.builder()
+                .accountId(snapshot.getAccountId())
+                .asOfDate(date)
+                .balance(snapshot.getBalance())
+                .snapshotDate(snapshot.getSnapshotDate())
+                .lastTransactionId(snapshot.getLastTransactionId())
+                .build();
+    }
+}
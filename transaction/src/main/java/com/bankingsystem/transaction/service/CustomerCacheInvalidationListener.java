@@ -0,0 +1,35 @@
+package com.bankingsystem.transaction.service;
+
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.bankingsystem.transaction.client.CachedCustomerClient;
+import com.bankingsystem.transaction.dto.CustomerEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerCacheInvalidationListener {
+
+    private final CachedCustomerClient cachedCustomerClient;
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(),
+            exchange = @Exchange(value = "${rabbitmq.exchanges.internal}", type = ExchangeTypes.TOPIC),
+            key = "${rabbitmq.routing-keys.customer-events}"))
+    public void onCustomerEvent(CustomerEvent event) {
+        if (event.getCustomerId() == null) {
+            log.warn("Ignoring customer event without customer id: {}", event);
+            return;
+        }
+        log.info("Received {} for customer {}", event.getEventType(), event.getCustomerId());
+        cachedCustomerClient.evict(event.getCustomerId());
+    }
+}
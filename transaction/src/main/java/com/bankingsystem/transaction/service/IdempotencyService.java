@@ -0,0 +1,107 @@
+package com.bankingsystem.transaction.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.bankingsystem.transaction.entity.IdempotencyRecord;
+import com.bankingsystem.transaction.entity.IdempotencyStatus;
+import com.bankingsystem.transaction.repository.IdempotencyRecordRepo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepo idempotencyRecordRepo;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Cache<String, IdempotencyRecord> completedRecords;
+
+    public IdempotencyService(IdempotencyRecordRepo idempotencyRecordRepo,
+                              MeterRegistry meterRegistry,
+                              @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${idempotency.lease-seconds:900}") long leaseSeconds,
+                              @Value("${idempotency.cache.ttl-seconds:600}") long cacheTtlSeconds,
+                              @Value("${idempotency.cache.max-size:10000}") long cacheMaxSize) {
+        this.idempotencyRecordRepo = idempotencyRecordRepo;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        // Only completed records are cached: they are immutable, so every instance can serve replays locally
+        this.completedRecords = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(Math.min(cacheTtlSeconds, ttl.toSeconds())))
+                .maximumSize(cacheMaxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completedRecords, "idempotency-records");
+    }
+
+    // Returns the record holding the key, or empty when the caller now owns it under claimedAt
+    public Optional<IdempotencyRecord> claim(String key, String requestHash, LocalDateTime claimedAt) {
+        LocalDateTime now = toColumnPrecision(claimedAt);
+        IdempotencyRecord cached = completedRecords.getIfPresent(key);
+        if (cached != null && cached.getExpiresAt().isAfter(now)) {
+            return Optional.of(cached);
+        }
+
+        if (idempotencyRecordRepo.claim(key, requestHash, now, now.plus(ttl), now.minus(lease)) == 1) {
+            completedRecords.invalidate(key);
+            return Optional.empty();
+        }
+
+        IdempotencyRecord existing = idempotencyRecordRepo.findById(key)
+                .orElseThrow(() -> new IllegalStateException("Idempotency record " + key + " vanished while claiming"));
+        if (existing.getStatus() == IdempotencyStatus.COMPLETED) {
+            completedRecords.put(key, existing);
+        }
+        return Optional.of(existing);
+    }
+
+    public void complete(String key, String requestHash, LocalDateTime claimedAt, int responseStatus,
+            String contentType, String responseBody) {
+        LocalDateTime createdAt = toColumnPrecision(claimedAt);
+        if (idempotencyRecordRepo.complete(key, createdAt, IdempotencyStatus.COMPLETED, responseStatus, contentType,
+                responseBody) == 0) {
+            log.warn("Idempotency key {} was taken over before its response was stored", key);
+            return;
+        }
+
+        completedRecords.put(key, IdempotencyRecord.builder()
+                .idempotencyKey(key)
+                .requestHash(requestHash)
+                .status(IdempotencyStatus.COMPLETED)
+                .responseStatus(responseStatus)
+                .contentType(contentType)
+                .responseBody(responseBody)
+                .createdAt(createdAt)
+                .expiresAt(createdAt.plus(ttl))
+                .build());
+    }
+
+    public void release(String key, LocalDateTime claimedAt) {
+        idempotencyRecordRepo.release(key, toColumnPrecision(claimedAt));
+    }
+
+    // created_at is stored as TIMESTAMP(6), and the fencing comparisons need the exact stored value
+    private LocalDateTime toColumnPrecision(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = idempotencyRecordRepo.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency records", purged);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.bankingsystem.transaction.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bankingsystem.transaction.config.OutboxConfig;
+import com.bankingsystem.transaction.entity.OutboxMessage;
+import com.bankingsystem.transaction.repository.OutboxMessageRepo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxMessageRepo outboxMessageRepo;
+    private final RabbitTemplate rabbitTemplate;
+    private final OutboxConfig outboxConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Value("${outbox.relay.max-drain-ms:2000}")
+    private long maxDrainMs;
+
+    // Keeps draining while batches come back full, so a backlog is not capped at one batch per interval
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDrainMs);
+        Integer relayed;
+        do {
+            relayed = transactionTemplate.execute(status -> relayBatch());
+        } while (relayed != null && relayed == batchSize && System.nanoTime() < deadline);
+    }
+
+    // Each batch commits on its own, so the row locks are held only while that batch is being confirmed
+    private int relayBatch() {
+        List<OutboxMessage> batch = outboxMessageRepo.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (OutboxMessage outboxMessage : batch) {
+                    operations.send(outboxConfig.getInternalExchange(), outboxMessage.getRoutingKey(),
+                            toAmqpMessage(outboxMessage));
+                }
+                operations.waitForConfirmsOrDie(confirmTimeoutMs);
+                return null;
+            });
+            outboxMessageRepo.deleteAllInBatch(batch);
+            log.debug("Relayed {} outbox messages", batch.size());
+            return batch.size();
+        } catch (AmqpException e) {
+            batch.forEach(outboxMessage -> outboxMessage.setAttempts(outboxMessage.getAttempts() + 1));
+            log.warn("Failed to relay {} outbox messages, will retry: {}", batch.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private Message toAmqpMessage(OutboxMessage outboxMessage) {
+        return MessageBuilder.withBody(outboxMessage.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(String.valueOf(outboxMessage.getId()))
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.bankingsystem.transaction.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bankingsystem.transaction.config.OutboxConfig;
+import com.bankingsystem.transaction.dto.CreateNotificationDto;
+import com.bankingsystem.transaction.dto.TransferJob;
+import com.bankingsystem.transaction.dto.TransferStatusResponse;
+import com.bankingsystem.transaction.entity.OutboxMessage;
+import com.bankingsystem.transaction.repository.OutboxMessageRepo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxMessageRepo outboxMessageRepo;
+    private final OutboxConfig outboxConfig;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String routingKey, Object payload) {
+        try {
+            outboxMessageRepo.save(OutboxMessage.builder()
+                    .routingKey(routingKey)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload for routing key " + routingKey, e);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueNotification(CreateNotificationDto notification) {
+        enqueue(outboxConfig.getNotificationRequestRoutingKey(), notification);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueTransferJob(TransferJob job) {
+        enqueue(outboxConfig.getTransferRequestRoutingKey(), job);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueTransferStatus(TransferStatusResponse status) {
+        enqueue(outboxConfig.getTransferStatusRoutingKey(), status);
+    }
+}
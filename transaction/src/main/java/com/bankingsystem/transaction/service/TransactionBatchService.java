@@ -0,0 +1,290 @@
+package com.bankingsystem.transaction.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bankingsystem.transaction.client.AccountClient;
+import com.bankingsystem.transaction.client.CachedCustomerClient;
+import com.bankingsystem.transaction.dto.BalanceBatchRequest;
+import com.bankingsystem.transaction.dto.BalanceOperation;
+import com.bankingsystem.transaction.dto.BalanceOperationResult;
+import com.bankingsystem.transaction.dto.BalanceOperationType;
+import com.bankingsystem.transaction.dto.BankAccountDto;
+import com.bankingsystem.transaction.dto.BatchItemResult;
+import com.bankingsystem.transaction.dto.BatchTransactionItem;
+import com.bankingsystem.transaction.dto.BatchTransactionResponse;
+import com.bankingsystem.transaction.dto.CreateNotificationDto;
+import com.bankingsystem.transaction.dto.CustomerDto;
+import com.bankingsystem.transaction.entity.Transaction;
+import com.bankingsystem.transaction.entity.TransactionStatus;
+import com.bankingsystem.transaction.entity.TransactionType;
+import com.bankingsystem.transaction.exception.InvalidTransactionException;
+import com.bankingsystem.transaction.helper.ApiResponse;
+import com.bankingsystem.transaction.helper.RemoteOutcome;
+import com.bankingsystem.transaction.repository.TransactionRepo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionBatchService {
+
+    private final TransactionRepo transactionRepo;
+    private final AccountClient accountClient;
+    private final CachedCustomerClient customerClient;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${transaction.batch.max-items:50000}")
+    private int maxItems;
+
+    @Value("${transaction.batch.chunk-size:1000}")
+    private int chunkSize;
+
+    public BatchTransactionResponse submitBatch(List<BatchTransactionItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidTransactionException("At least one transaction item is required");
+        }
+        if (items.size() > maxItems) {
+            throw new InvalidTransactionException("Cannot submit more than " + maxItems + " items in one batch");
+        }
+
+        BatchItemResult[] results = new BatchItemResult[items.size()];
+        List<Integer> pending = new ArrayList<>(items.size());
+        for (int index = 0; index < items.size(); index++) {
+            String error = validate(items.get(index));
+            if (error != null) {
+                results[index] = failedItem(index, error);
+            } else {
+                pending.add(index);
+            }
+        }
+
+        // Chunks keep submission order, so a payroll debit listed before its credits is applied first
+        for (int start = 0; start < pending.size(); start += chunkSize) {
+            List<Integer> chunk = pending.subList(start, Math.min(start + chunkSize, pending.size()));
+            processChunk(items, chunk, results);
+        }
+
+        List<BatchItemResult> resultList = List.of(results);
+        int succeeded = (int) resultList.stream().filter(BatchItemResult::isSuccess).count();
+        int unknown = (int) resultList.stream().filter(BatchItemResult::isOutcomeUnknown).count();
+
+        log.info("Processed transaction batch: {} items, {} succeeded, {} unknown", items.size(), succeeded,
+                unknown);
+
+        return BatchTransactionResponse.builder()
+                .total(items.size())
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded - unknown)
+                .unknown(unknown)
+                .results(resultList)
+                .build();
+    }
+
+    private void processChunk(List<BatchTransactionItem> items, List<Integer> chunk, BatchItemResult[] results) {
+        List<BalanceOperation> operations = chunk.stream()
+                .map(index -> toOperation(items.get(index)))
+                .toList();
+
+        ApiResponse<List<BalanceOperationResult>> response;
+        try {
+            response = accountClient.applyBalanceBatch(BalanceBatchRequest.builder()
+                    .operations(operations)
+                    .build());
+        } catch (RuntimeException e) {
+            if (!RemoteOutcome.of(e).isDefinite()) {
+                log.error("Balance batch of {} operations has an unknown outcome", operations.size(), e);
+                chunk.forEach(index -> results[index] = unknownItem(index));
+                return;
+            }
+            log.error("Balance batch of {} operations failed", operations.size(), e);
+            response = null;
+        }
+
+        if (response == null || !response.isSuccess() || response.getData() == null
+                || response.getData().size() != chunk.size()) {
+            String message = response != null && response.getMessage() != null
+                    ? response.getMessage()
+                    : "Bank account service did not apply the batch";
+            chunk.forEach(index -> results[index] = failedItem(index, message));
+            return;
+        }
+
+        List<Integer> appliedIndexes = new ArrayList<>();
+        List<BalanceOperationResult> appliedResults = new ArrayList<>();
+        List<Transaction> transactions = new ArrayList<>();
+        Set<Long> customerIds = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int position = 0; position < chunk.size(); position++) {
+            int index = chunk.get(position);
+            BalanceOperationResult operationResult = response.getData().get(position);
+            if (!operationResult.isSuccess()) {
+                results[index] = failedItem(index, operationResult.getMessage());
+                continue;
+            }
+
+            BatchTransactionItem item = items.get(index);
+            appliedIndexes.add(index);
+            appliedResults.add(operationResult);
+            transactions.add(Transaction.builder()
+                    .accountId(item.getAccountId())
+                    .relatedAccountId(item.getType() == TransactionType.TRANSFER ? item.getToAccountId() : null)
+                    .amount(item.getAmount())
+                    .type(item.getType())
+                    .status(TransactionStatus.SUCCESS)
+                    .description(item.getDescription())
+                    .transactionDate(now)
+                    .balanceAfter(operationResult.getAccount().getBalance())
+                    .relatedBalanceAfter(operationResult.getToAccount() != null
+                            ? operationResult.getToAccount().getBalance()
+                            : null)
+                    .balanceSequence(operationResult.getAccount().getLedgerSequence())
+                    .relatedBalanceSequence(operationResult.getToAccount() != null
+                            ? operationResult.getToAccount().getLedgerSequence()
+                            : null)
+                    .build());
+            customerIds.add(operationResult.getAccount().getCustomerId());
+            if (operationResult.getToAccount() != null) {
+                customerIds.add(operationResult.getToAccount().getCustomerId());
+            }
+        }
+
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        // Balances are already applied, so a failed lookup only costs the notifications
+        Map<Long, CustomerDto> customers;
+        try {
+            customers = customerClient.getCustomersByIds(customerIds);
+        } catch (RuntimeException e) {
+            log.warn("Skipping notifications for {} batch transactions: {}", transactions.size(), e.getMessage());
+            customers = Map.of();
+        }
+        Map<Long, CustomerDto> batchCustomers = customers;
+
+        List<Transaction> saved = transactionTemplate.execute(status -> {
+            List<Transaction> persisted = transactionRepo.saveAll(transactions);
+            for (int i = 0; i < persisted.size(); i++) {
+                enqueueNotifications(persisted.get(i), appliedResults.get(i), batchCustomers);
+            }
+            return persisted;
+        });
+
+        for (int i = 0; i < saved.size(); i++) {
+            int index = appliedIndexes.get(i);
+            results[index] = BatchItemResult.builder()
+                    .index(index)
+                    .success(true)
+                    .message(appliedResults.get(i).getMessage())
+                    .transactionId(saved.get(i).getId())
+                    .balanceAfterTransaction(saved.get(i).getBalanceAfter())
+                    .build();
+        }
+    }
+
+    private String validate(BatchTransactionItem item) {
+        if (item == null || item.getType() == null || item.getAccountId() == null) {
+            return "Transaction type and account ID are required";
+        }
+        if (item.getAmount() == null || item.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            return "Amount must be greater than zero";
+        }
+        if (item.getType() == TransactionType.TRANSFER) {
+            if (item.getToAccountId() == null) {
+                return "Destination Account ID is required for transfers";
+            }
+            if (item.getToAccountId().equals(item.getAccountId())) {
+                return "Cannot transfer to the same account";
+            }
+        }
+        return null;
+    }
+
+    private BalanceOperation toOperation(BatchTransactionItem item) {
+        return switch (item.getType()) {
+            case DEPOSIT -> BalanceOperation.builder()
+                    .type(BalanceOperationType.ADJUST)
+                    .accountId(item.getAccountId())
+                    .amount(item.getAmount())
+                    .build();
+            case WITHDRAWAL -> BalanceOperation.builder()
+                    .type(BalanceOperationType.ADJUST)
+                    .accountId(item.getAccountId())
+                    .amount(item.getAmount().negate())
+                    .build();
+            case TRANSFER -> BalanceOperation.builder()
+                    .type(BalanceOperationType.TRANSFER)
+                    .accountId(item.getAccountId())
+                    .toAccountId(item.getToAccountId())
+                    .amount(item.getAmount())
+                    .build();
+        };
+    }
+
+    private void enqueueNotifications(Transaction transaction, BalanceOperationResult operationResult,
+            Map<Long, CustomerDto> customers) {
+        BankAccountDto account = operationResult.getAccount();
+        CustomerDto customer = customers.get(account.getCustomerId());
+
+        switch (transaction.getType()) {
+            case DEPOSIT -> enqueueNotification(customer, "Deposit Successful",
+                    ", your deposit of " + transaction.getAmount() + " was successful.");
+            case WITHDRAWAL -> enqueueNotification(customer, "Withdrawal Successful",
+                    ", your withdrawal of " + transaction.getAmount() + " was successful.");
+            case TRANSFER -> {
+                BankAccountDto toAccount = operationResult.getToAccount();
+                enqueueNotification(customer, "Transfer Successful",
+                        ", your transfer of " + transaction.getAmount() + " to account "
+                                + toAccount.getAccountNumber() + " was successful.");
+                enqueueNotification(customers.get(toAccount.getCustomerId()), "Received Transfer",
+                        ", you have received " + transaction.getAmount() + " from account "
+                                + account.getAccountNumber() + ".");
+            }
+        }
+    }
+
+    private void enqueueNotification(CustomerDto customer, String title, String messageSuffix) {
+        if (customer == null) {
+            return;
+        }
+        outboxService.enqueueNotification(CreateNotificationDto.builder()
+                .customerId(customer.getId())
+                .customerEmail(customer.getEmail())
+                .title(title)
+                .type("TRANSACTION")
+                .message("Dear " + customer.getFirstName() + messageSuffix)
+                .build());
+    }
+
+    private BatchItemResult unknownItem(int index) {
+        return BatchItemResult.builder()
+                .index(index)
+                .success(false)
+                .outcomeUnknown(true)
+                .message("Bank account service may have applied this item; "
+                        + "check the account balance before resubmitting")
+                .build();
+    }
+
+    private BatchItemResult failedItem(int index, String message) {
+        return BatchItemResult.builder()
+                .index(index)
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.bankingsystem.transaction.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bankingsystem.transaction.dto.TransactionDto;
+import com.bankingsystem.transaction.dto.TransactionExportFormat;
+import com.bankingsystem.transaction.entity.Transaction;
+import com.bankingsystem.transaction.repository.TransactionRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionExportService {
+
+    private static final String CSV_HEADER =
+            "id,accountId,transactionDate,amount,type,status,relatedAccountId,referenceNumber,description,balanceAfter";
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final TransactionRepo transactionRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public void exportTransactions(Long accountId, LocalDateTime from, LocalDateTime to,
+            TransactionExportFormat format, OutputStream outputStream) {
+
+        TransactionTemplate readOnlyTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTemplate.setReadOnly(true);
+
+        // The JDBC cursor only streams inside a transaction; each row is detached once written
+        readOnlyTemplate.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            long rows = 0;
+            try (Stream<Transaction> transactions = transactionRepo.streamByAccountIdAndDateRange(accountId, from, to)) {
+                if (format == TransactionExportFormat.CSV) {
+                    writer.write(CSV_HEADER);
+                    writer.write('\n');
+                }
+                Iterator<Transaction> iterator = transactions.iterator();
+                while (iterator.hasNext()) {
+                    Transaction transaction = iterator.next();
+                    writer.write(format == TransactionExportFormat.CSV ? toCsv(transaction) : toJson(transaction));
+                    writer.write('\n');
+                    entityManager.detach(transaction);
+                    if (++rows % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to export transactions for account " + accountId, e);
+            }
+            log.info("Exported {} transactions for account {} as {}", rows, accountId, format);
+        });
+    }
+
+    private String toJson(Transaction transaction) throws IOException {
+        return objectMapper.writeValueAsString(TransactionDto.builder()
+                .id(transaction.getId())
+                .accountId(transaction.getAccountId())
+                .transactionDate(transaction.getTransactionDate())
+                .amount(transaction.getAmount())
+                .type(transaction.getType() != null ? transaction.getType().name() : null)
+                .status(transaction.getStatus() != null ? transaction.getStatus().name() : null)
+                .relatedAccountId(transaction.getRelatedAccountId())
+                .referenceNumber(transaction.getReferenceNumber())
+                .description(transaction.getDescription())
+                .balanceAfter(transaction.getBalanceAfter())
+                .build());
+    }
+
+    private String toCsv(Transaction transaction) {
+        return String.join(",",
+                csvValue(transaction.getId()),
+                csvValue(transaction.getAccountId()),
+                csvValue(transaction.getTransactionDate()),
+                csvValue(transaction.getAmount() != null ? transaction.getAmount().toPlainString() : null),
+                csvValue(transaction.getType()),
+                csvValue(transaction.getStatus()),
+                csvValue(transaction.getRelatedAccountId()),
+                csvValue(transaction.getReferenceNumber()),
+                csvValue(transaction.getDescription()),
+                csvValue(transaction.getBalanceAfter() != null ? transaction.getBalanceAfter().toPlainString() : null));
+    }
+
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,138 @@
+package com.bankingsystem.transaction.service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionPartitionManager {
+
+    private static final String PARENT_TABLE = "transactions";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("transactions_p(\\d{4})_(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${transaction.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${transaction.partitions.archive-after-months:0}")
+    private int archiveAfterMonths;
+
+    @Value("${transaction.partitions.archive-tablespace:}")
+    private String archiveTablespace;
+
+    @Value("${transaction.partitions.detach-after-months:0}")
+    private int detachAfterMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${transaction.partitions.cron:0 30 1 * * *}")
+    public void maintainPartitions() {
+        YearMonth currentMonth = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(currentMonth.plusMonths(i));
+        }
+
+        for (Map.Entry<String, String> partition : listPartitions().entrySet()) {
+            Matcher matcher = PARTITION_NAME.matcher(partition.getKey());
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+
+            if (detachAfterMonths > 0 && month.isBefore(currentMonth.minusMonths(detachAfterMonths))) {
+                detachPartition(partition.getKey());
+            } else if (archiveAfterMonths > 0 && !archiveTablespace.isBlank()
+                    && month.isBefore(currentMonth.minusMonths(archiveAfterMonths))
+                    && !archiveTablespace.equals(partition.getValue())) {
+                archivePartition(partition.getKey());
+            }
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        String name = partitionName(month);
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + PARENT_TABLE
+                    + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        } catch (DataAccessException e) {
+            log.error("Failed to create transaction partition {}: {}", name, e.getMessage());
+        }
+    }
+
+    // The partition stays attached, so it remains queryable through the parent table
+    private void archivePartition(String name) {
+        String tablespace = quoteIdentifier(archiveTablespace);
+        try {
+            jdbcTemplate.execute("ALTER TABLE " + name + " SET TABLESPACE " + tablespace);
+            List<String> indexes = jdbcTemplate.queryForList(
+                    "SELECT indexrelid::regclass::text FROM pg_index WHERE indrelid = ?::regclass",
+                    String.class, name);
+            for (String index : indexes) {
+                jdbcTemplate.execute("ALTER INDEX " + index + " SET TABLESPACE " + tablespace);
+            }
+            log.info("Moved transaction partition {} to tablespace {}", name, archiveTablespace);
+        } catch (DataAccessException e) {
+            log.error("Failed to archive transaction partition {}: {}", name, e.getMessage());
+        }
+    }
+
+    // Detached partitions are kept as standalone tables for export or offline storage. CONCURRENTLY only takes
+    // SHARE UPDATE EXCLUSIVE on the parent, so inserts and reads carry on; it must run outside a transaction
+    // block, which holds here because JdbcTemplate runs each statement on an autocommit connection.
+    // A detach interrupted half way leaves the partition pending, and only FINALIZE can complete it.
+    private void detachPartition(String name) {
+        try {
+            Boolean pending = jdbcTemplate.queryForObject(
+                    "SELECT inhdetachpending FROM pg_inherits WHERE inhrelid = ?::regclass", Boolean.class, name);
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + name
+                    + (Boolean.TRUE.equals(pending) ? " FINALIZE" : " CONCURRENTLY"));
+            log.info("Detached transaction partition {}", name);
+        } catch (DataAccessException e) {
+            log.error("Failed to detach transaction partition {}: {}", name, e.getMessage());
+        }
+    }
+
+    // Partition name to tablespace name, empty for the database default
+    private Map<String, String> listPartitions() {
+        Map<String, String> partitions = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT c.relname, COALESCE(t.spcname, '') FROM pg_inherits i "
+                        + "JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "LEFT JOIN pg_tablespace t ON t.oid = c.reltablespace "
+                        + "WHERE i.inhparent = ?::regclass ORDER BY c.relname",
+                rs -> {
+                    partitions.put(rs.getString(1), rs.getString(2));
+                },
+                PARENT_TABLE);
+        return partitions;
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    private String quoteIdentifier(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -1,34 +1,51 @@
 package com.bankingsystem.transaction.service;
 
 import com.bankingsystem.transaction.client.AccountClient;
-import com.bankingsystem.transaction.client.CustomerClient;
-import com.bankingsystem.transaction.client.NotificationClient;
+import com.bankingsystem.transaction.client.CachedCustomerClient;
+import com.bankingsystem.transaction.client.RemoteCallExecutor;
+import com.bankingsystem.transaction.client.RemoteCallScope;
 import com.bankingsystem.transaction.dto.*;
 import com.bankingsystem.transaction.entity.Transaction;
 import com.bankingsystem.transaction.entity.TransactionStatus;
 import com.bankingsystem.transaction.entity.TransactionType;
+import com.bankingsystem.transaction.exception.InvalidTransactionException;
+import com.bankingsystem.transaction.exception.TransactionNotFoundException;
 import com.bankingsystem.transaction.exception.TransferException;
 import com.bankingsystem.transaction.helper.ApiResponse;
+import com.bankingsystem.transaction.helper.RemoteOutcome;
+import com.bankingsystem.transaction.helper.TransactionCursor;
 import com.bankingsystem.transaction.helper.TransactionMapper;
 import com.bankingsystem.transaction.repository.TransactionRepo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int FAILURE_REASON_MAX_LENGTH = 250;
+
     private final TransactionRepo transactionRepo;
     private final TransactionMapper transactionMapper;
     private final AccountClient accountClient;
-    private final CustomerClient customerClient;
-    private final NotificationClient notificationClient;
+    private final CachedCustomerClient customerClient;
+    private final RemoteCallExecutor remoteCallExecutor;
+    private final AccountLaneExecutor accountLaneExecutor;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
 
     public TransactionResponse deposit(DepositRequest request) {
         if (request == null || request.getAccountId() == null || request.getAmount() == null
@@ -36,46 +53,46 @@ public class TransactionService {
             throw new IllegalArgumentException("Invalid deposit request: accountId and positive amount are required.");
         }
 
-        ApiResponse<BankAccountDto> accountResponse = accountClient.getAccountById(request.getAccountId());
-        if (accountResponse == null || !accountResponse.isSuccess() || accountResponse.getData() == null) {
-            throw new IllegalArgumentException("Account not found for id: " + request.getAccountId());
-        }
-
-        BankAccountDto account = accountResponse.getData();
-
-        if (!account.isActive()) {
-            throw new IllegalArgumentException("Cannot deposit to an inactive account");
-        }
-
-        ApiResponse<CustomerDto> customerResponse = customerClient.getCustomerById(account.getCustomerId());
-        if (customerResponse == null || !customerResponse.isSuccess() || customerResponse.getData() == null) {
-            throw new IllegalArgumentException("Customer not found for id: " + account.getCustomerId());
-        }
-
-        CustomerDto customer = customerResponse.getData();
-
-        BigDecimal newBalance = account.getBalance().add(request.getAmount());
-
-        UpdateBalanceRequest requestForNewBalance = UpdateBalanceRequest.builder().newBalance(newBalance).build();
-
-        ApiResponse<BankAccountDto> updatedAccountResponse = accountClient.updateBalance(account.getId(), requestForNewBalance);
+        ApiResponse<BankAccountDto> updatedAccountResponse = accountLaneExecutor.execute(request.getAccountId(),
+                () -> accountClient.adjustBalance(request.getAccountId(),
+                        BalanceAdjustmentRequest.builder().amount(request.getAmount()).build()));
 
         if (updatedAccountResponse == null || !updatedAccountResponse.isSuccess()
                 || updatedAccountResponse.getData() == null) {
-            throw new IllegalArgumentException("Failed to update account balance for id: " + account.getId());
+            throw new IllegalArgumentException("Failed to update account balance for id: " + request.getAccountId());
         }
 
         BankAccountDto updatedAccount = updatedAccountResponse.getData();
 
+        // The balance has already moved, so the row is recorded even when the customer lookup fails
+        CustomerDto customer = findCustomer(updatedAccount.getCustomerId());
+
         Transaction transaction = Transaction.builder()
                 .accountId(request.getAccountId())
                 .amount(request.getAmount())
                 .type(TransactionType.DEPOSIT)
                 .status(TransactionStatus.SUCCESS)
                 .transactionDate(LocalDateTime.now())
+                .balanceAfter(updatedAccount.getBalance())
+                .balanceSequence(updatedAccount.getLedgerSequence())
                 .build();
 
-        Transaction savedTransaction = transactionRepo.save(transaction);
+        Transaction savedTransaction = transactionTemplate.execute(status -> {
+            Transaction saved = transactionRepo.save(transaction);
+
+            if (customer != null) {
+                outboxService.enqueueNotification(CreateNotificationDto.builder()
+                        .customerId(customer.getId())
+                        .customerEmail(customer.getEmail())
+                        .title("Deposit Successful")
+                        .type("TRANSACTION")
+                        .message("Dear " + customer.getFirstName() + ", your deposit of " + request.getAmount()
+                                + " was successful.")
+                        .build());
+            }
+
+            return saved;
+        });
 
         TransactionResponse response = transactionMapper.toResponse(
                 savedTransaction,
@@ -86,19 +103,6 @@ public class TransactionService {
         response.setSuccess(true);
         response.setMessage("Deposit successful");
 
-        try {
-            notificationClient.createNotification(CreateNotificationDto.builder()
-                    .customerId(customer.getId())
-                    .customerEmail(customer.getEmail())
-                    .title("Deposit Successful")
-                    .type("TRANSACTION")
-                    .message("Dear " + customer.getFirstName() + ", your deposit of " + request.getAmount()
-                            + " was successful.")
-                    .build());
-        } catch (Exception e) {
-            log.error("Failed to send deposit notification ", e);
-        }
-
         return response;
     }
 
@@ -106,50 +110,49 @@ public class TransactionService {
 
         if (request == null || request.getAccountId() == null || request.getAmount() == null
                 || request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("Invalid deposit request: accountId and positive amount are required.");
-        }
-
-        ApiResponse<BankAccountDto> accountResponse = accountClient.getAccountById(request.getAccountId());
-        if (accountResponse == null || !accountResponse.isSuccess() || accountResponse.getData() == null) {
-            throw new IllegalArgumentException("Account not found for id: " + request.getAccountId());
-        }
-
-        BankAccountDto account = accountResponse.getData();
-
-        if (!account.isActive()) {
-            throw new IllegalArgumentException("Cannot deposit to an inactive account");
+            throw new IllegalArgumentException("Invalid withdraw request: accountId and positive amount are required.");
         }
 
-        ApiResponse<CustomerDto> customerResponse = customerClient.getCustomerById(account.getCustomerId());
-        if (customerResponse == null || !customerResponse.isSuccess() || customerResponse.getData() == null) {
-            throw new IllegalArgumentException("Customer not found for id: " + account.getCustomerId());
-        }
-
-        CustomerDto customer = customerResponse.getData();
+        ApiResponse<BankAccountDto> updatedAccountResponse = accountLaneExecutor.execute(request.getAccountId(),
+                () -> accountClient.adjustBalance(request.getAccountId(),
+                        BalanceAdjustmentRequest.builder().amount(request.getAmount().negate()).build()));
 
-        BigDecimal newBalance = account.getBalance().subtract(request.getAmount());
-
-        UpdateBalanceRequest requestForNewBalance = UpdateBalanceRequest.builder()
-                .newBalance(newBalance)
-                .build();
-        ApiResponse<BankAccountDto> updatedAccountResponse = accountClient.updateBalance(account.getId(),
-                requestForNewBalance);
         if (updatedAccountResponse == null || !updatedAccountResponse.isSuccess()
                 || updatedAccountResponse.getData() == null) {
-            throw new IllegalArgumentException("Failed to update account balance for id: " + account.getId());
+            throw new IllegalArgumentException("Failed to update account balance for id: " + request.getAccountId());
         }
 
         BankAccountDto updatedAccount = updatedAccountResponse.getData();
 
+        // The balance has already moved, so the row is recorded even when the customer lookup fails
+        CustomerDto customer = findCustomer(updatedAccount.getCustomerId());
+
         Transaction transaction = Transaction.builder()
                 .accountId(request.getAccountId())
                 .amount(request.getAmount())
-                .type(TransactionType.DEPOSIT)
+                .type(TransactionType.WITHDRAWAL)
                 .status(TransactionStatus.SUCCESS)
                 .transactionDate(LocalDateTime.now())
+                .balanceAfter(updatedAccount.getBalance())
+                .balanceSequence(updatedAccount.getLedgerSequence())
                 .build();
 
-        Transaction savedTransaction = transactionRepo.save(transaction);
+        Transaction savedTransaction = transactionTemplate.execute(status -> {
+            Transaction saved = transactionRepo.save(transaction);
+
+            if (customer != null) {
+                outboxService.enqueueNotification(CreateNotificationDto.builder()
+                        .customerId(customer.getId())
+                        .customerEmail(customer.getEmail())
+                        .title("Withdrawal Successful")
+                        .type("TRANSACTION")
+                        .message("Dear " + customer.getFirstName() + ", your withdrawal of " + request.getAmount()
+                                + " was successful.")
+                        .build());
+            }
+
+            return saved;
+        });
 
         TransactionResponse response = transactionMapper.toResponse(
                 savedTransaction,
@@ -160,132 +163,287 @@ public class TransactionService {
         response.setSuccess(true);
         response.setMessage("Withdraw successful");
 
-        try {
-            notificationClient.createNotification(CreateNotificationDto.builder()
-                    .customerId(customer.getId())
-                    .customerEmail(customer.getEmail())
-                    .title("Withdrawal Successful")
-                    .type("TRANSACTION")
-                    .message("Dear " + customer.getFirstName() + ", your withdrawal of " + request.getAmount()
-                            + " was successful.")
-                    .build());
-        } catch (Exception e) {
-            log.error("Failed to send withdrawal notification ", e);
-        }
-
         return response;
 
     }
 
     public TransactionResponse transfer(TransferRequest request) {
 
-        ApiResponse<BankAccountDto> senderResponse = accountClient.getAccountById(request.getFromAccountId());
-        if (senderResponse == null || !senderResponse.isSuccess() || senderResponse.getData() == null) {
-            throw new TransferException("Account not found for id: " + request.getFromAccountId());
-        }
-        BankAccountDto sender = senderResponse.getData();
+        TransferResultDto transferResult = moveFunds(request.getFromAccountId(), request.getToAccountId(),
+                request.getAmount());
+        BankAccountDto sender = transferResult.getFromAccount();
+        BankAccountDto receiver = transferResult.getToAccount();
+        BigDecimal newSenderBalance = sender.getBalance();
 
-        ApiResponse<BankAccountDto> receiverResponse = accountClient.getAccountById(request.getToAccountId());
-        if (receiverResponse == null || !receiverResponse.isSuccess() || receiverResponse.getData() == null) {
-            throw new TransferException("Account not found for id: " + request.getToAccountId());
+        // The funds have moved at this point, so a customer lookup failure only costs the notifications
+        Map<Long, CustomerDto> customers;
+        try {
+            customers = lookupTransferCustomers(sender, receiver);
+        } catch (RuntimeException e) {
+            log.warn("Skipping notifications for transfer from account {}: {}", sender.getId(), e.getMessage());
+            customers = Map.of();
         }
-        BankAccountDto receiver = receiverResponse.getData();
 
-        if (sender.getBalance().compareTo(request.getAmount()) < 0) {
-            throw new TransferException("Insufficient balance for transfer");
-        }
+        Map<Long, CustomerDto> transferCustomers = customers;
+        CustomerDto senderCustomer = customers.get(sender.getCustomerId());
 
-        BigDecimal newSenderBalance = sender.getBalance().subtract(request.getAmount());
-        sender.setBalance(newSenderBalance);
+        Transaction transaction = transactionMapper.fromTransferRequest(request);
+        transaction.setBalanceAfter(newSenderBalance);
+        transaction.setRelatedBalanceAfter(receiver.getBalance());
+        transaction.setBalanceSequence(sender.getLedgerSequence());
+        transaction.setRelatedBalanceSequence(receiver.getLedgerSequence());
+        Transaction savedTransaction = transactionTemplate.execute(status -> {
+            Transaction saved = transactionRepo.save(transaction);
+            enqueueTransferNotifications(request.getAmount(), sender, receiver, transferCustomers);
+            return saved;
+        });
 
-        BigDecimal newReceiverBalance = receiver.getBalance().add(request.getAmount());
-        receiver.setBalance(newReceiverBalance);
+        TransactionResponse response = transactionMapper.toResponse(
+                savedTransaction,
+                senderCustomer,
+                newSenderBalance,
+                sender.getAccountNumber());
 
-        UpdateBalanceRequest requestForNewReceiverBalance = UpdateBalanceRequest.builder()
-                .newBalance(newReceiverBalance)
-                .build();
+        response.setSuccess(true);
+        response.setMessage("Transfer successful");
 
-        ApiResponse<BankAccountDto> updatedReceiverResponse = accountClient
-                .updateBalance(request.getToAccountId(), requestForNewReceiverBalance);
-        if (updatedReceiverResponse == null || !updatedReceiverResponse.isSuccess()
-                || updatedReceiverResponse.getData() == null) {
-            throw new TransferException("Failed to update account balance for id: " + request.getToAccountId());
+        return response;
+    }
+
+    public TransferStatusResponse submitTransfer(TransferRequest request) {
+        if (request.getFromAccountId() == null) {
+            throw new InvalidTransactionException("Source Account ID is required");
         }
-        UpdateBalanceRequest requestForNewSenderBalance = UpdateBalanceRequest.builder()
-                .newBalance(newSenderBalance)
-                .build();
+        if (request.getFromAccountId().equals(request.getToAccountId())) {
+            throw new InvalidTransactionException("Cannot transfer to the same account");
+        }
+
+        Transaction transaction = transactionMapper.fromTransferRequest(request);
+        transaction.setStatus(TransactionStatus.PENDING);
 
-        ApiResponse<BankAccountDto> updatedSenderResponse = accountClient
-                .updateBalance(request.getFromAccountId(), requestForNewSenderBalance);
-        if (updatedSenderResponse == null || !updatedSenderResponse.isSuccess()
-                || updatedSenderResponse.getData() == null) {
-            throw new TransferException(
-                    "Failed to update account balance for id: " + request.getFromAccountId());
+        Transaction pending = transactionTemplate.execute(status -> {
+            Transaction saved = transactionRepo.save(transaction);
+            outboxService.enqueueTransferJob(TransferJob.builder().transactionId(saved.getId()).build());
+            return saved;
+        });
+
+        return toStatusResponse(pending);
+    }
+
+    public void processPendingTransfer(Long transactionId) {
+        if (transactionRepo.compareAndSetStatus(transactionId, TransactionStatus.PENDING,
+                TransactionStatus.PROCESSING) == 0) {
+            log.info("Transfer {} is no longer pending, skipping duplicate job", transactionId);
+            return;
         }
 
-        ApiResponse<CustomerDto> senderCustomerResponse = customerClient.getCustomerById(sender.getCustomerId());
+        Transaction transaction = transactionRepo.findById(transactionId)
+                .orElseThrow(() -> new TransactionNotFoundException("Transaction not found with id: " + transactionId));
 
-        if (senderCustomerResponse == null || !senderCustomerResponse.isSuccess()
-                || senderCustomerResponse.getData() == null) {
-            throw new TransferException("Customer not found for id: " + sender.getCustomerId());
+        TransferResultDto transferResult;
+        try {
+            transferResult = moveFunds(transaction.getAccountId(), transaction.getRelatedAccountId(),
+                    transaction.getAmount());
+        } catch (RuntimeException e) {
+            if (!RemoteOutcome.of(e).isDefinite()) {
+                // The transfer may have landed after bank-account-service committed it, so the row stays
+                // PROCESSING for reconciliation instead of telling the customer it failed
+                log.error("Queued transfer {} has an unknown outcome, leaving it PROCESSING", transactionId, e);
+                return;
+            }
+            log.warn("Queued transfer {} failed: {}", transactionId, e.getMessage());
+            transaction.setStatus(TransactionStatus.FAILED);
+            transaction.setFailureReason(truncate(e.getMessage(), FAILURE_REASON_MAX_LENGTH));
+            transactionTemplate.executeWithoutResult(status -> {
+                transactionRepo.save(transaction);
+                outboxService.enqueueTransferStatus(toStatusResponse(transaction));
+            });
+            return;
         }
-        CustomerDto senderCustomer = senderCustomerResponse.getData();
 
-        ApiResponse<CustomerDto> receiverCustomerResponse = customerClient.getCustomerById(receiver.getCustomerId());
+        BankAccountDto sender = transferResult.getFromAccount();
+        BankAccountDto receiver = transferResult.getToAccount();
 
-        if (receiverCustomerResponse == null || !receiverCustomerResponse.isSuccess()
-                || receiverCustomerResponse.getData() == null) {
-            throw new TransferException("Customer not found for id: " + receiver.getCustomerId());
+        // The funds have moved at this point, so a customer lookup failure only costs the notifications
+        Map<Long, CustomerDto> customers;
+        try {
+            customers = lookupTransferCustomers(sender, receiver);
+        } catch (RuntimeException e) {
+            log.warn("Skipping notifications for transfer {}: {}", transactionId, e.getMessage());
+            customers = Map.of();
         }
-        CustomerDto receiverCustomer = receiverCustomerResponse.getData();
 
-        Transaction transaction = transactionMapper.fromTransferRequest(request);
-        Transaction savedTransaction = transactionRepo.save(transaction);
+        Map<Long, CustomerDto> transferCustomers = customers;
+        transaction.setStatus(TransactionStatus.SUCCESS);
+        transaction.setBalanceAfter(sender.getBalance());
+        transaction.setRelatedBalanceAfter(receiver.getBalance());
+        transaction.setBalanceSequence(sender.getLedgerSequence());
+        transaction.setRelatedBalanceSequence(receiver.getLedgerSequence());
+        transactionTemplate.executeWithoutResult(status -> {
+            transactionRepo.save(transaction);
+            enqueueTransferNotifications(transaction.getAmount(), sender, receiver, transferCustomers);
+            outboxService.enqueueTransferStatus(toStatusResponse(transaction));
+        });
+    }
 
-        TransactionResponse response = transactionMapper.toResponse(
-                savedTransaction,
-                senderCustomer,
-                newSenderBalance,
-                sender.getAccountNumber());
+    public TransferStatusResponse getTransactionStatus(Long transactionId) {
+        Transaction transaction = transactionRepo.findById(transactionId)
+                .orElseThrow(() -> new TransactionNotFoundException("Transaction not found with id: " + transactionId));
+        return toStatusResponse(transaction);
+    }
 
-        response.setSuccess(true);
-        response.setMessage("Transfer successful");
+    private TransferResultDto moveFunds(Long fromAccountId, Long toAccountId, BigDecimal amount) {
+        ApiResponse<TransferResultDto> transferResponse = accountLaneExecutor.execute(fromAccountId, toAccountId,
+                () -> accountClient.transfer(TransferFundsRequest.builder()
+                        .fromAccountId(fromAccountId)
+                        .toAccountId(toAccountId)
+                        .amount(amount)
+                        .build()));
+        if (transferResponse == null || !transferResponse.isSuccess() || transferResponse.getData() == null) {
+            throw new TransferException("Failed to transfer funds from account id: " + fromAccountId
+                    + " to account id: " + toAccountId);
+        }
+        return transferResponse.getData();
+    }
+
+    private Map<Long, CustomerDto> lookupTransferCustomers(BankAccountDto sender, BankAccountDto receiver) {
+        // Both customer lookups are independent reads; run them concurrently under one deadline
+        try (RemoteCallScope scope = remoteCallExecutor.open()) {
+            Future<ApiResponse<CustomerDto>> senderLookup = scope.fork(
+                    () -> customerClient.getCustomerById(sender.getCustomerId()));
+            Future<ApiResponse<CustomerDto>> receiverLookup = scope.fork(
+                    () -> customerClient.getCustomerById(receiver.getCustomerId()));
+
+            Map<Long, CustomerDto> customers = new HashMap<>();
+            customers.put(sender.getCustomerId(), requireCustomer(scope.join(senderLookup), sender.getCustomerId()));
+            customers.put(receiver.getCustomerId(),
+                    requireCustomer(scope.join(receiverLookup), receiver.getCustomerId()));
+            return customers;
+        }
+    }
 
+    private CustomerDto findCustomer(Long customerId) {
         try {
-            notificationClient.createNotification(CreateNotificationDto.builder()
+            ApiResponse<CustomerDto> response = customerClient.getCustomerById(customerId);
+            if (response != null && response.isSuccess() && response.getData() != null) {
+                return response.getData();
+            }
+            log.warn("Customer {} not found, skipping notification", customerId);
+        } catch (RuntimeException e) {
+            log.warn("Customer lookup for {} failed, skipping notification: {}", customerId, e.getMessage());
+        }
+        return null;
+    }
+
+    private CustomerDto requireCustomer(ApiResponse<CustomerDto> response, Long customerId) {
+        if (response == null || !response.isSuccess() || response.getData() == null) {
+            throw new TransferException("Customer not found for id: " + customerId);
+        }
+        return response.getData();
+    }
+
+    private void enqueueTransferNotifications(BigDecimal amount, BankAccountDto sender, BankAccountDto receiver,
+            Map<Long, CustomerDto> customers) {
+        CustomerDto senderCustomer = customers.get(sender.getCustomerId());
+        CustomerDto receiverCustomer = customers.get(receiver.getCustomerId());
+
+        if (senderCustomer != null) {
+            outboxService.enqueueNotification(CreateNotificationDto.builder()
                     .customerId(senderCustomer.getId())
                     .customerEmail(senderCustomer.getEmail())
                     .title("Transfer Successful")
                     .type("TRANSACTION")
-                    .message("Dear " + senderCustomer.getFirstName() + ", your transfer of " + request.getAmount()
+                    .message("Dear " + senderCustomer.getFirstName() + ", your transfer of " + amount
                             + " to account " + receiver.getAccountNumber() + " was successful.")
                     .build());
+        }
 
-            notificationClient.createNotification(CreateNotificationDto.builder()
+        if (receiverCustomer != null) {
+            outboxService.enqueueNotification(CreateNotificationDto.builder()
                     .customerId(receiverCustomer.getId())
                     .customerEmail(receiverCustomer.getEmail())
                     .title("Received Transfer")
                     .type("TRANSACTION")
-                    .message("Dear " + receiverCustomer.getFirstName() + ", you have received " + request.getAmount()
+                    .message("Dear " + receiverCustomer.getFirstName() + ", you have received " + amount
                             + " from account " + sender.getAccountNumber() + ".")
                     .build());
-        } catch (Exception e) {
-            log.error("Failed to send transfer notifications", e);
         }
+    }
 
-        return response;
+    private TransferStatusResponse toStatusResponse(Transaction transaction) {
+        return TransferStatusResponse.builder()
+                .transactionId(transaction.getId())
+                .status(transaction.getStatus().name())
+                .fromAccountId(transaction.getAccountId())
+                .toAccountId(transaction.getRelatedAccountId())
+                .amount(transaction.getAmount())
+                .transactionDate(transaction.getTransactionDate())
+                .failureReason(transaction.getFailureReason())
+                .completed(transaction.getStatus() != TransactionStatus.PENDING
+                        && transaction.getStatus() != TransactionStatus.PROCESSING)
+                .build();
     }
 
-    public List<TransactionResponse> getTransactionsByAccountId(Long accountId) {
-        List<Transaction> transactions = transactionRepo.findByAccountId(accountId);
-        return transactionMapper.toResponseList(transactions);
+    private String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+
+    public TransactionPageResponse getTransactionPage(Long accountId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // Fetch one extra row to know whether another page exists without a COUNT query
+        List<Transaction> transactions;
+        if (cursor == null || cursor.isBlank()) {
+            transactions = transactionRepo.findLatestByAccountId(accountId, Limit.of(pageSize + 1));
+        } else {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            transactions = transactionRepo.findByAccountIdBefore(accountId, position.getTransactionDate(),
+                    position.getId(), Limit.of(pageSize + 1));
+        }
+
+        boolean hasMore = transactions.size() > pageSize;
+        List<Transaction> page = hasMore ? transactions.subList(0, pageSize) : transactions;
+
+        return TransactionPageResponse.builder()
+                .transactions(transactionMapper.toResponseList(page))
+                .nextCursor(hasMore ? TransactionCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .build();
     }
 
-    public List<TransactionResponse> getTransactionsBetweenDates(TransactionDateRangeRequest dateRangeRequest) {
-        List<Transaction> transactions = transactionRepo.findByTransactionDateBetween(dateRangeRequest.getFrom(),
-                dateRangeRequest.getTo());
+    public TransactionPageResponse getTransactionsBetweenDates(TransactionDateRangeRequest dateRangeRequest) {
+        if (dateRangeRequest.getFrom() == null || dateRangeRequest.getTo() == null) {
+            throw new InvalidTransactionException("Both from and to dates are required");
+        }
+        if (dateRangeRequest.getFrom().isAfter(dateRangeRequest.getTo())) {
+            throw new InvalidTransactionException("From date must not be after to date");
+        }
+        int pageSize = dateRangeRequest.getSize() == null ? DEFAULT_PAGE_SIZE
+                : Math.min(Math.max(dateRangeRequest.getSize(), 1), MAX_PAGE_SIZE);
+
+        // Same keyset cursor as the account history, walked oldest first
+        List<Transaction> transactions;
+        String cursor = dateRangeRequest.getCursor();
+        if (cursor == null || cursor.isBlank()) {
+            transactions = transactionRepo.findByTransactionDateBetweenOrderByTransactionDateAscIdAsc(
+                    dateRangeRequest.getFrom(), dateRangeRequest.getTo(), Limit.of(pageSize + 1));
+        } else {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            transactions = transactionRepo.findBetweenDatesAfter(dateRangeRequest.getFrom(), dateRangeRequest.getTo(),
+                    position.getTransactionDate(), position.getId(), Limit.of(pageSize + 1));
+        }
+
+        boolean hasMore = transactions.size() > pageSize;
+        List<Transaction> page = hasMore ? transactions.subList(0, pageSize) : transactions;
 
-        return transactionMapper.toResponseList(transactions);
+        return TransactionPageResponse.builder()
+                .transactions(transactionMapper.toResponseList(page))
+                .nextCursor(hasMore ? TransactionCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .build();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package com.bankingsystem.transaction.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.bankingsystem.transaction.dto.TransferStatusResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class TransferStatusNotifier {
+
+    private static final String EVENT_NAME = "transfer-status";
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @Value("${transfer.events.timeout-ms:60000}")
+    private long timeoutMs;
+
+    public SseEmitter subscribe(Long transactionId, Supplier<TransferStatusResponse> currentStatus) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        // Register before reading the current status so a completion landing in between is not lost
+        emitters.computeIfAbsent(transactionId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+        emitter.onCompletion(() -> remove(transactionId, emitter));
+        emitter.onTimeout(() -> remove(transactionId, emitter));
+        emitter.onError(e -> remove(transactionId, emitter));
+
+        TransferStatusResponse status;
+        try {
+            status = currentStatus.get();
+        } catch (RuntimeException e) {
+            remove(transactionId, emitter);
+            throw e;
+        }
+
+        send(emitter, status);
+        if (status.isCompleted()) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    // Every instance receives completions on its own queue, since the SSE client may be connected anywhere
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(),
+            exchange = @Exchange(value = "${rabbitmq.exchanges.internal}", type = ExchangeTypes.TOPIC),
+            key = "${rabbitmq.routing-keys.transfer-status}"))
+    public void onTransferStatus(TransferStatusResponse status) {
+        Set<SseEmitter> subscribers = status.isCompleted()
+                ? emitters.remove(status.getTransactionId())
+                : emitters.get(status.getTransactionId());
+        if (subscribers == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : subscribers) {
+            send(emitter, status);
+            if (status.isCompleted()) {
+                emitter.complete();
+            }
+        }
+    }
+
+    private void send(SseEmitter emitter, TransferStatusResponse status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(status));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping SSE subscriber for transaction {}: {}", status.getTransactionId(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long transactionId, SseEmitter emitter) {
+        emitters.computeIfPresent(transactionId, (id, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
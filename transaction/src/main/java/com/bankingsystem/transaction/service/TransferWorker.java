@@ -0,0 +1,23 @@
+package com.bankingsystem.transaction.service;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.bankingsystem.transaction.dto.TransferJob;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransferWorker {
+
+    private final TransactionService transactionService;
+
+    @RabbitListener(queues = "${rabbitmq.queues.transfer-request}", concurrency = "${transfer.worker.concurrency:4}")
+    public void processTransfer(TransferJob job) {
+        log.info("Processing queued transfer {}", job.getTransactionId());
+        transactionService.processPendingTransfer(job.getTransactionId());
+    }
+}
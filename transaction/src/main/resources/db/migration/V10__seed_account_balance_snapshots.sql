@@ -0,0 +1,20 @@
+-- One snapshot per account on the last month-end, from its latest post-balance in the ledger. Month-end
+-- carry-forward only copies accounts that already have a snapshot, so without this seed an account that went
+-- quiet before snapshots existed never gets one and is missing from every month-end report.
+INSERT INTO account_balance_snapshots (account_id, snapshot_date, balance, last_transaction_id, created_at)
+SELECT DISTINCT ON (m.account_id) m.account_id, (date_trunc('month', now()) - INTERVAL '1 day')::date,
+       m.balance, m.transaction_id, now()
+FROM (
+    SELECT t.account_id, t.balance_after AS balance, t.balance_sequence AS seq, t.id AS transaction_id,
+           t.transaction_date
+    FROM transactions t
+    WHERE t.status = 'SUCCESS' AND t.balance_after IS NOT NULL
+      AND t.transaction_date < date_trunc('month', now())
+    UNION ALL
+    SELECT t.related_account_id, t.related_balance_after, t.related_balance_sequence, t.id, t.transaction_date
+    FROM transactions t
+    WHERE t.status = 'SUCCESS' AND t.related_balance_after IS NOT NULL AND t.related_account_id IS NOT NULL
+      AND t.transaction_date < date_trunc('month', now())
+) m
+ORDER BY m.account_id, m.seq DESC NULLS LAST, m.transaction_date DESC, m.transaction_id DESC
+ON CONFLICT (account_id, snapshot_date) DO NOTHING;
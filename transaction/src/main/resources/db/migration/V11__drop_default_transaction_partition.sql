@@ -0,0 +1,22 @@
+-- DETACH PARTITION ... CONCURRENTLY is refused while the table has a DEFAULT partition, and a plain detach
+-- takes ACCESS EXCLUSIVE on transactions. The safety net goes; TransactionPartitionManager creates monthly
+-- partitions ahead of time instead. Any rows it caught are moved into monthly partitions made for them.
+ALTER TABLE transactions DETACH PARTITION transactions_default;
+
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR month_start IN
+        SELECT DISTINCT date_trunc('month', transaction_date)::date FROM transactions_default
+    LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+                       'transactions_p' || to_char(month_start, 'YYYY_MM'),
+                       month_start,
+                       (month_start + INTERVAL '1 month')::date);
+    END LOOP;
+END $$;
+
+INSERT INTO transactions SELECT * FROM transactions_default;
+
+DROP TABLE transactions_default;
@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS transactions (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_id         BIGINT         NOT NULL,
+    transaction_date   TIMESTAMP(6)   NOT NULL,
+    amount             NUMERIC(18, 2) NOT NULL,
+    type               VARCHAR(255)   NOT NULL,
+    description        VARCHAR(250),
+    related_account_id BIGINT,
+    status             VARCHAR(255)   NOT NULL,
+    reference_number   VARCHAR(100)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    routing_key VARCHAR(255) NOT NULL,
+    payload     TEXT         NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    attempts    INTEGER      NOT NULL
+);
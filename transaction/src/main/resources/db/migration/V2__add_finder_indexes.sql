@@ -0,0 +1,7 @@
+-- findByAccountId and the keyset history/export queries, which order by (transaction_date, id) DESC
+CREATE INDEX IF NOT EXISTS idx_transactions_account_id_date
+    ON transactions (account_id, transaction_date DESC, id DESC);
+
+-- findByTransactionDateBetween
+CREATE INDEX IF NOT EXISTS idx_transactions_transaction_date
+    ON transactions (transaction_date);
@@ -0,0 +1,9 @@
+CREATE SEQUENCE IF NOT EXISTS transactions_pooled_seq INCREMENT BY 50;
+SELECT setval('transactions_pooled_seq', COALESCE(MAX(id), 0) + 50, false) FROM transactions;
+ALTER TABLE transactions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE transactions ALTER COLUMN id SET DEFAULT nextval('transactions_pooled_seq');
+
+CREATE SEQUENCE IF NOT EXISTS outbox_messages_pooled_seq INCREMENT BY 50;
+SELECT setval('outbox_messages_pooled_seq', COALESCE(MAX(id), 0) + 50, false) FROM outbox_messages;
+ALTER TABLE outbox_messages ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE outbox_messages ALTER COLUMN id SET DEFAULT nextval('outbox_messages_pooled_seq');
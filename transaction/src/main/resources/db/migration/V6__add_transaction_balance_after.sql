@@ -0,0 +1,2 @@
+-- Balance of accountId right after this transaction, as reported by bank-account's ledger write
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS balance_after NUMERIC(38, 2);
@@ -0,0 +1,23 @@
+-- Receiver's balance after a transfer, so both sides of every row carry a post-transaction balance
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS related_balance_after NUMERIC(38, 2);
+
+-- As-of lookups for accounts on the receiving side of transfers
+CREATE INDEX IF NOT EXISTS idx_transactions_related_account_id_date
+    ON transactions (related_account_id, transaction_date DESC, id DESC)
+    WHERE related_account_id IS NOT NULL;
+
+CREATE SEQUENCE IF NOT EXISTS account_balance_snapshots_pooled_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS account_balance_snapshots (
+    id                  BIGINT         NOT NULL DEFAULT nextval('account_balance_snapshots_pooled_seq') PRIMARY KEY,
+    account_id          BIGINT         NOT NULL,
+    snapshot_date       DATE           NOT NULL,
+    balance             NUMERIC(38, 2) NOT NULL,
+    last_transaction_id BIGINT         NOT NULL,
+    created_at          TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT uk_account_balance_snapshots_account_date UNIQUE (account_id, snapshot_date)
+);
+
+-- Month-end reports read one date across all accounts
+CREATE INDEX IF NOT EXISTS idx_account_balance_snapshots_date
+    ON account_balance_snapshots (snapshot_date, account_id);
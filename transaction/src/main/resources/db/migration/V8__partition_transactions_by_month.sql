@@ -0,0 +1,64 @@
+-- Rebuild transactions as a table range-partitioned by month on transaction_date.
+-- The primary key has to include the partition key.
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+ALTER TABLE transactions_unpartitioned RENAME CONSTRAINT transactions_pkey TO transactions_unpartitioned_pkey;
+ALTER INDEX IF EXISTS idx_transactions_account_id_date RENAME TO idx_transactions_unpartitioned_account_id_date;
+ALTER INDEX IF EXISTS idx_transactions_transaction_date RENAME TO idx_transactions_unpartitioned_transaction_date;
+ALTER INDEX IF EXISTS idx_transactions_related_account_id_date RENAME TO idx_transactions_unpartitioned_related_account_id_date;
+
+CREATE TABLE transactions (
+    id                    BIGINT         NOT NULL DEFAULT nextval('transactions_pooled_seq'),
+    account_id            BIGINT         NOT NULL,
+    transaction_date      TIMESTAMP(6)   NOT NULL,
+    amount                NUMERIC(18, 2) NOT NULL,
+    type                  VARCHAR(255)   NOT NULL,
+    description           VARCHAR(250),
+    related_account_id    BIGINT,
+    status                VARCHAR(255)   NOT NULL,
+    reference_number      VARCHAR(100),
+    failure_reason        VARCHAR(250),
+    balance_after         NUMERIC(38, 2),
+    related_balance_after NUMERIC(38, 2),
+    CONSTRAINT transactions_pkey PRIMARY KEY (id, transaction_date)
+) PARTITION BY RANGE (transaction_date);
+
+-- Safety net for rows outside every monthly partition; TransactionPartitionManager keeps it empty
+CREATE TABLE IF NOT EXISTS transactions_default PARTITION OF transactions DEFAULT;
+
+-- Monthly partitions from the oldest existing row through three months ahead
+DO $$
+DECLARE
+    month_start DATE;
+    last_month  DATE := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(transaction_date), now()))::date
+    INTO month_start
+    FROM transactions_unpartitioned;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+                       'transactions_p' || to_char(month_start, 'YYYY_MM'),
+                       month_start,
+                       (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO transactions (id, account_id, transaction_date, amount, type, description, related_account_id,
+                          status, reference_number, failure_reason, balance_after, related_balance_after)
+SELECT id, account_id, transaction_date, amount, type, description, related_account_id,
+       status, reference_number, failure_reason, balance_after, related_balance_after
+FROM transactions_unpartitioned;
+
+DROP TABLE transactions_unpartitioned;
+
+-- Indexes on the parent cascade to every current and future partition
+CREATE INDEX IF NOT EXISTS idx_transactions_account_id_date
+    ON transactions (account_id, transaction_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_transactions_transaction_date
+    ON transactions (transaction_date);
+
+CREATE INDEX IF NOT EXISTS idx_transactions_related_account_id_date
+    ON transactions (related_account_id, transaction_date DESC, id DESC)
+    WHERE related_account_id IS NOT NULL;
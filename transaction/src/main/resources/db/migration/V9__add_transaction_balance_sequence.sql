@@ -0,0 +1,4 @@
+-- Ledger position of each side's balance_after, as reported by bank-account while the account row was locked.
+-- Unlike transaction_date (submit time for queued transfers) and pooled ids, it follows the order balances were applied
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS balance_sequence BIGINT;
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS related_balance_sequence BIGINT;
@@ -0,0 +1,127 @@
+package com.bankingsystem.transaction.config;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.autoconfigure.web.embedded.TomcatVirtualThreadsWebServerFactoryCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Load harness for spring.threads.virtual.enabled, run by hand rather than by surefire:
+ * {@code java -cp <test classpath> com.bankingsystem.transaction.config.VirtualThreadLoadBenchmark <mode>},
+ * with mode {@code platform} or {@code virtual}. Each mode runs in its own JVM so thread counts do not leak across.
+ *
+ * <p>Starts Boot's Tomcat factory with its default 200-thread pool, or with the customizer Boot applies when
+ * virtual threads are enabled, and drives it with more concurrent clients than the pool has threads.
+ * Each request blocks for as long as a Feign or JDBC call would, which is where these services spend their time.
+ */
+public class VirtualThreadLoadBenchmark {
+
+    private static final int CLIENTS = 1_000;
+    private static final int REQUESTS_PER_CLIENT = 10;
+    private static final Duration BLOCKING_CALL = Duration.ofMillis(250);
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf(Locale.ROOT, "%-18s %10s %10s %10s %14s%n", "mode", "req/s", "p50 ms", "p99 ms",
+                "peak threads");
+        boolean virtualThreads = args.length > 0 && "virtual".equals(args[0]);
+        run(virtualThreads ? "virtual threads" : "platform threads", virtualThreads);
+    }
+
+    private static void run(String mode, boolean virtualThreads) throws Exception {
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        if (virtualThreads) {
+            new TomcatVirtualThreadsWebServerFactoryCustomizer().customize(factory);
+        }
+        WebServer server = factory.getWebServer(servletContext ->
+                servletContext.addServlet("blocking", new BlockingServlet()).addMapping("/*"));
+        server.start();
+        try {
+            URI uri = URI.create("http://localhost:" + server.getPort() + "/");
+            load(uri, CLIENTS / 10);
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+            long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+            long start = System.nanoTime();
+            load(uri, CLIENTS, latencies);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            Arrays.sort(latencies);
+            System.out.printf(Locale.ROOT, "%-18s %10.0f %10.1f %10.1f %14d%n", mode, latencies.length / seconds,
+                    percentile(latencies, 50), percentile(latencies, 99), threads.getPeakThreadCount());
+        } finally {
+            server.destroy();
+        }
+    }
+
+    private static void load(URI uri, int clients) throws Exception {
+        load(uri, clients, new long[clients * REQUESTS_PER_CLIENT]);
+    }
+
+    private static void load(URI uri, int clients, long[] latencies) throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        // The client runs on virtual threads too, so the peak thread count is the server's
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                        .executor(executor).build()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = httpClient.send(request,
+                                HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("Unexpected status " + response.statusCode());
+                        }
+                        latencies[next.getAndIncrement()] = System.nanoTime() - start;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static final class BlockingServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            try {
+                Thread.sleep(BLOCKING_CALL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                return;
+            }
+            response.setContentType("text/plain");
+            response.getWriter().write("ok");
+        }
+    }
+}
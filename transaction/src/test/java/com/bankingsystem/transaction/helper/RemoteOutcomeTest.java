@@ -0,0 +1,75 @@
+package com.bankingsystem.transaction.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.bankingsystem.transaction.exception.TransferException;
+
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import feign.Response;
+
+class RemoteOutcomeTest {
+
+    private static final Request REQUEST = Request.create(Request.HttpMethod.POST,
+            "http://bank-account-service/api/v1/accounts/transfer", Map.of(), new byte[0], StandardCharsets.UTF_8,
+            null);
+
+    @Test
+    void clientErrorsAndRejectedBodiesAreFailures() {
+        assertThat(RemoteOutcome.of(errorStatus(409))).isEqualTo(RemoteOutcome.FAILED);
+        assertThat(RemoteOutcome.of(new TransferException("Insufficient funds"))).isEqualTo(RemoteOutcome.FAILED);
+    }
+
+    @Test
+    void refusedConnectionIsNotSent() {
+        RetryableException refused = new RetryableException(-1, "Connection refused", Request.HttpMethod.POST,
+                new ConnectException("Connection refused"), (Long) null, REQUEST);
+
+        assertThat(RemoteOutcome.of(refused)).isEqualTo(RemoteOutcome.NOT_SENT);
+        assertThat(RemoteOutcome.NOT_SENT.isDefinite()).isTrue();
+    }
+
+    @Test
+    void loadBalancerWithoutInstancesIsNotSent() {
+        FeignException noInstance = FeignException.errorStatus("AccountClient#transfer", Response.builder()
+                .status(503)
+                .reason("Service Unavailable")
+                .request(REQUEST)
+                .headers(Map.of())
+                .body("Load balancer does not contain an instance for the service bank-account-service",
+                        StandardCharsets.UTF_8)
+                .build());
+
+        assertThat(RemoteOutcome.of(noInstance)).isEqualTo(RemoteOutcome.NOT_SENT);
+        assertThat(RemoteOutcome.of(errorStatus(503))).isEqualTo(RemoteOutcome.UNKNOWN);
+    }
+
+    @Test
+    void timeoutsServerAndGatewayErrorsAreUnknown() {
+        RetryableException timeout = new RetryableException(-1, "Read timed out", Request.HttpMethod.POST,
+                new SocketTimeoutException("Read timed out"), (Long) null, REQUEST);
+
+        assertThat(RemoteOutcome.of(timeout)).isEqualTo(RemoteOutcome.UNKNOWN);
+        assertThat(RemoteOutcome.of(errorStatus(500))).isEqualTo(RemoteOutcome.UNKNOWN);
+        assertThat(RemoteOutcome.of(errorStatus(502))).isEqualTo(RemoteOutcome.UNKNOWN);
+        assertThat(RemoteOutcome.of(errorStatus(504))).isEqualTo(RemoteOutcome.UNKNOWN);
+        assertThat(RemoteOutcome.of(new IllegalStateException("decode failed"))).isEqualTo(RemoteOutcome.UNKNOWN);
+    }
+
+    private static FeignException errorStatus(int status) {
+        return FeignException.errorStatus("AccountClient#transfer", Response.builder()
+                .status(status)
+                .reason("status " + status)
+                .request(REQUEST)
+                .headers(Map.of())
+                .build());
+    }
+}
@@ -0,0 +1,166 @@
+package com.bankingsystem.transaction.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * Bulk insert rows/sec for IDENTITY ids versus pooled sequences with JDBC batching, run by hand against a scratch
+ * Postgres database: {@code java -Dbench.url=jdbc:postgresql://localhost:5432/bench -cp <test classpath>
+ * com.bankingsystem.transaction.repository.TransactionInsertBenchmark}.
+ *
+ * <p>Both entities have the shape of a Transaction row and the same account/date index; the tables are created
+ * and dropped by the harness.
+ */
+public class TransactionInsertBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final int ROWS_PER_TRANSACTION = 1_000;
+    private static final int FLUSH_EVERY = 50;
+
+    public static void main(String[] args) {
+        String url = System.getProperty("bench.url", "jdbc:postgresql://localhost:5432/bench");
+        String user = System.getProperty("bench.user", "postgres");
+        String password = System.getProperty("bench.password", "root");
+
+        System.out.printf(Locale.ROOT, "%-44s %10s%n", "mode", "rows/s");
+        run("IDENTITY, batch_size 50 (ignored)", url, user, password, IdentityRow.class, 50);
+        run("pooled sequence, no batching", url, user, password, PooledRow.class, 1);
+        run("pooled sequence, batch_size 50", url, user, password, PooledRow.class, 50);
+        run("pooled sequence, batch_size 50, rewritten", url + separator(url) + "reWriteBatchedInserts=true",
+                user, password, PooledRow.class, 50);
+    }
+
+    private static void run(String mode, String url, String user, String password, Class<?> entity,
+            int batchSize) {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(entity)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, user)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, password)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true");
+
+        try (SessionFactory sessionFactory = configuration.buildSessionFactory()) {
+            insert(sessionFactory, entity, ROWS / 10);
+            long start = System.nanoTime();
+            insert(sessionFactory, entity, ROWS);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf(Locale.ROOT, "%-44s %10.0f%n", mode, ROWS / seconds);
+        }
+    }
+
+    private static void insert(SessionFactory sessionFactory, Class<?> entity, int rows) {
+        int written = 0;
+        while (written < rows) {
+            try (Session session = sessionFactory.openSession()) {
+                session.beginTransaction();
+                for (int i = 0; i < ROWS_PER_TRANSACTION && written < rows; i++, written++) {
+                    session.persist(entity == IdentityRow.class ? new IdentityRow(written) : new PooledRow(written));
+                    if ((i + 1) % FLUSH_EVERY == 0) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+                session.getTransaction().commit();
+            }
+        }
+    }
+
+    private static String separator(String url) {
+        return url.contains("?") ? "&" : "?";
+    }
+
+    @Entity
+    @Table(name = "bench_identity_transactions",
+            indexes = @Index(name = "idx_bench_identity_account_date", columnList = "account_id, transaction_date"))
+    static class IdentityRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(name = "account_id")
+        private Long accountId;
+
+        private String type;
+
+        @Column(precision = 19, scale = 2)
+        private BigDecimal amount;
+
+        @Column(name = "balance_after", precision = 19, scale = 2)
+        private BigDecimal balanceAfter;
+
+        private String status;
+
+        @Column(name = "transaction_date")
+        private LocalDateTime transactionDate;
+
+        protected IdentityRow() {
+        }
+
+        IdentityRow(int index) {
+            this.accountId = (long) (index % 500);
+            this.type = "DEPOSIT";
+            this.amount = BigDecimal.valueOf(index % 1000, 2);
+            this.balanceAfter = BigDecimal.valueOf(index, 2);
+            this.status = "SUCCESS";
+            this.transactionDate = LocalDateTime.now();
+        }
+    }
+
+    @Entity
+    @Table(name = "bench_pooled_transactions",
+            indexes = @Index(name = "idx_bench_pooled_account_date", columnList = "account_id, transaction_date"))
+    static class PooledRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bench_pooled_seq")
+        @SequenceGenerator(name = "bench_pooled_seq", sequenceName = "bench_pooled_transactions_seq",
+                allocationSize = 50)
+        private Long id;
+
+        @Column(name = "account_id")
+        private Long accountId;
+
+        private String type;
+
+        @Column(precision = 19, scale = 2)
+        private BigDecimal amount;
+
+        @Column(name = "balance_after", precision = 19, scale = 2)
+        private BigDecimal balanceAfter;
+
+        private String status;
+
+        @Column(name = "transaction_date")
+        private LocalDateTime transactionDate;
+
+        protected PooledRow() {
+        }
+
+        PooledRow(int index) {
+            this.accountId = (long) (index % 500);
+            this.type = "DEPOSIT";
+            this.amount = BigDecimal.valueOf(index % 1000, 2);
+            this.balanceAfter = BigDecimal.valueOf(index, 2);
+            this.status = "SUCCESS";
+            this.transactionDate = LocalDateTime.now();
+        }
+    }
+}
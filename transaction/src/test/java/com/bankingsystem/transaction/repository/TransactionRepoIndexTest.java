@@ -0,0 +1,64 @@
+package com.bankingsystem.transaction.repository;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.bankingsystem.testsupport.AbstractRepoIndexTest;
+
+class TransactionRepoIndexTest extends AbstractRepoIndexTest {
+
+    // Without a DEFAULT partition, a month nobody created is pruned away entirely and has no plan to check
+    @BeforeAll
+    static void createQueriedMonth() throws SQLException {
+        execute("CREATE TABLE IF NOT EXISTS transactions_p2026_01 PARTITION OF transactions "
+                + "FOR VALUES FROM ('2026-01-01') TO ('2026-02-01')");
+        execute("ANALYZE transactions");
+    }
+
+    @Test
+    void findLatestByAccountIdUsesAccountDateIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM transactions WHERE account_id = 42 "
+                + "ORDER BY transaction_date DESC, id DESC LIMIT 51");
+    }
+
+    @Test
+    void findByAccountIdBeforeUsesAccountDateIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM transactions WHERE account_id = 42 "
+                + "AND (transaction_date < '2026-01-15' OR (transaction_date = '2026-01-15' AND id < 1000)) "
+                + "ORDER BY transaction_date DESC, id DESC LIMIT 51");
+    }
+
+    @Test
+    void receivedTransfersUseRelatedAccountIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM transactions WHERE related_account_id = 42 "
+                + "ORDER BY transaction_date DESC, id DESC LIMIT 51");
+    }
+
+    @Test
+    void findByTransactionDateBetweenUsesDateIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM transactions "
+                + "WHERE transaction_date BETWEEN '2026-01-01' AND '2026-01-31' "
+                + "ORDER BY transaction_date, id");
+    }
+
+    @Test
+    void dateRangePagesSeekByDateAndId() throws SQLException {
+        assertUsesIndex("SELECT * FROM transactions "
+                + "WHERE transaction_date >= '2026-01-01' AND transaction_date <= '2026-01-31' "
+                + "AND (transaction_date > '2026-01-15 10:00' OR (transaction_date = '2026-01-15 10:00' AND id > 900)) "
+                + "ORDER BY transaction_date, id LIMIT 51");
+    }
+
+    @Test
+    void balanceSnapshotLookupUsesAccountDateKey() throws SQLException {
+        assertUsesIndex("SELECT * FROM account_balance_snapshots WHERE account_id = 42 "
+                + "AND snapshot_date <= '2026-01-31' ORDER BY snapshot_date DESC LIMIT 1");
+    }
+
+    @Test
+    void idempotencyPurgeUsesExpiryIndex() throws SQLException {
+        assertUsesIndex("DELETE FROM idempotency_records WHERE expires_at < now()");
+    }
+}
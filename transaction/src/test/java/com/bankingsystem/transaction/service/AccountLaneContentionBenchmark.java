@@ -0,0 +1,316 @@
+package com.bankingsystem.transaction.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Contention harness for {@link AccountLaneExecutor}, run by hand rather than by surefire:
+ * {@code java -cp <test classpath> com.bankingsystem.transaction.service.AccountLaneContentionBenchmark}.
+ *
+ * <p>Simulates bank-account-service as a fixed connection pool plus per-account row locks behind a network hop,
+ * and drives a hot merchant account mixed with cold deposits and transfers through four strategies: no lanes (the
+ * default), the earlier nested single-thread-executor lanes, the earlier single-writer lock lanes, and the current
+ * opt-in lanes that only cap calls in flight per stripe.
+ */
+public class AccountLaneContentionBenchmark {
+
+    private static final int CLIENTS = 256;
+    private static final int OPERATIONS = 20_000;
+    private static final int ACCOUNTS = 10_000;
+    private static final long HOT_ACCOUNT = 1L;
+    private static final int DB_POOL_SIZE = 10;
+    private static final long NETWORK_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+    private static final long ROW_LOCK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    public static void main(String[] args) throws Exception {
+        List<Strategy> strategies = List.of(
+                new Strategy("no lanes", null),
+                new Strategy("nested executor lanes", new NestedLanes(64)),
+                new Strategy("single-writer lock lanes", new LockLanes(64)),
+                new Strategy("in-flight cap lanes", new CappedLanes(new AccountLaneExecutor(true, 64, 4))));
+
+        // One warm-up pass per strategy before the measured run
+        for (Strategy strategy : strategies) {
+            run(strategy, OPERATIONS / 4);
+        }
+        System.out.printf(Locale.ROOT, "%-24s %10s %12s %12s %12s %12s %10s%n", "strategy", "ops/s",
+                "hot p50 ms", "hot p99 ms", "cold p50 ms", "cold p99 ms", "row wait");
+        for (Strategy strategy : strategies) {
+            Result result = run(strategy, OPERATIONS);
+            System.out.printf(Locale.ROOT, "%-24s %10.0f %12.2f %12.2f %12.2f %12.2f %10d%n", strategy.name,
+                    result.opsPerSecond, result.hot.percentile(50), result.hot.percentile(99),
+                    result.cold.percentile(50), result.cold.percentile(99), result.peakRowWaiters);
+        }
+    }
+
+    private static Result run(Strategy strategy, int operations) throws Exception {
+        SimulatedAccountService accountService = new SimulatedAccountService();
+        Latencies hot = new Latencies(operations);
+        Latencies cold = new Latencies(operations);
+        AtomicInteger next = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    while (next.getAndIncrement() < operations) {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        int kind = random.nextInt(10);
+                        long account = 2 + random.nextInt(ACCOUNTS);
+                        long opStart = System.nanoTime();
+                        if (kind < 4) {
+                            strategy.execute(HOT_ACCOUNT, () -> accountService.adjust(HOT_ACCOUNT));
+                            hot.record(System.nanoTime() - opStart);
+                        } else if (kind < 8) {
+                            strategy.execute(account, () -> accountService.adjust(account));
+                            cold.record(System.nanoTime() - opStart);
+                        } else {
+                            long other = kind == 8 ? HOT_ACCOUNT : 2 + random.nextInt(ACCOUNTS);
+                            strategy.execute(account, other, () -> accountService.transfer(account, other));
+                            (other == HOT_ACCOUNT ? hot : cold).record(System.nanoTime() - opStart);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Result(operations / seconds, hot, cold, accountService.peakRowWaiters.get());
+    }
+
+    // Connection pool and row locks on the remote side; a request waiting on a row lock holds its connection
+    private static final class SimulatedAccountService {
+
+        private final Semaphore connections = new Semaphore(DB_POOL_SIZE, true);
+        private final ConcurrentHashMap<Long, ReentrantLock> rows = new ConcurrentHashMap<>();
+        private final AtomicInteger peakRowWaiters = new AtomicInteger();
+
+        Object adjust(long accountId) {
+            return call(accountId, accountId);
+        }
+
+        Object transfer(long fromAccountId, long toAccountId) {
+            return call(Math.min(fromAccountId, toAccountId), Math.max(fromAccountId, toAccountId));
+        }
+
+        private Object call(long firstRow, long secondRow) {
+            LockSupport.parkNanos(NETWORK_NANOS / 2);
+            connections.acquireUninterruptibly();
+            try {
+                ReentrantLock first = rows.computeIfAbsent(firstRow, id -> new ReentrantLock());
+                ReentrantLock second = rows.computeIfAbsent(secondRow, id -> new ReentrantLock());
+                peakRowWaiters.accumulateAndGet(first.getQueueLength() + 1, Math::max);
+                first.lock();
+                second.lock();
+                try {
+                    LockSupport.parkNanos(ROW_LOCK_NANOS);
+                } finally {
+                    second.unlock();
+                    first.unlock();
+                }
+            } finally {
+                connections.release();
+            }
+            LockSupport.parkNanos(NETWORK_NANOS / 2);
+            return null;
+        }
+    }
+
+    private interface Lanes {
+
+        <T> T execute(Long accountId, Supplier<T> work);
+
+        <T> T execute(Long firstAccountId, Long secondAccountId, Supplier<T> work);
+    }
+
+    private static final class Strategy {
+
+        private final String name;
+        private final Lanes lanes;
+
+        Strategy(String name, Lanes lanes) {
+            this.name = name;
+            this.lanes = lanes;
+        }
+
+        void execute(long accountId, Supplier<Object> work) {
+            if (lanes == null) {
+                work.get();
+            } else {
+                lanes.execute(accountId, work);
+            }
+        }
+
+        void execute(long firstAccountId, long secondAccountId, Supplier<Object> work) {
+            if (lanes == null) {
+                work.get();
+            } else {
+                lanes.execute(firstAccountId, secondAccountId, work);
+            }
+        }
+    }
+
+    private static final class CappedLanes implements Lanes {
+
+        private final AccountLaneExecutor executor;
+
+        CappedLanes(AccountLaneExecutor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public <T> T execute(Long accountId, Supplier<T> work) {
+            return executor.execute(accountId, work);
+        }
+
+        @Override
+        public <T> T execute(Long firstAccountId, Long secondAccountId, Supplier<T> work) {
+            return executor.execute(firstAccountId, secondAccountId, work);
+        }
+    }
+
+    // The second version of AccountLaneExecutor: one fair lock per lane, held across the remote call
+    private static final class LockLanes implements Lanes {
+
+        private final ReentrantLock[] lanes;
+
+        LockLanes(int laneCount) {
+            lanes = new ReentrantLock[laneCount];
+            for (int i = 0; i < laneCount; i++) {
+                lanes[i] = new ReentrantLock(true);
+            }
+        }
+
+        @Override
+        public <T> T execute(Long accountId, Supplier<T> work) {
+            ReentrantLock lane = lanes[laneOf(accountId, lanes.length)];
+            lane.lock();
+            try {
+                return work.get();
+            } finally {
+                lane.unlock();
+            }
+        }
+
+        @Override
+        public <T> T execute(Long firstAccountId, Long secondAccountId, Supplier<T> work) {
+            int firstLane = laneOf(firstAccountId, lanes.length);
+            int secondLane = laneOf(secondAccountId, lanes.length);
+            if (firstLane == secondLane) {
+                return execute(firstAccountId, work);
+            }
+            ReentrantLock lower = lanes[Math.min(firstLane, secondLane)];
+            ReentrantLock upper = lanes[Math.max(firstLane, secondLane)];
+            lower.lock();
+            upper.lock();
+            try {
+                return work.get();
+            } finally {
+                upper.unlock();
+                lower.unlock();
+            }
+        }
+    }
+
+    // The first version of AccountLaneExecutor: the outer lane's thread blocks until the inner lane runs the work
+    private static final class NestedLanes implements Lanes {
+
+        private final ExecutorService[] lanes;
+
+        NestedLanes(int laneCount) {
+            lanes = new ExecutorService[laneCount];
+            for (int i = 0; i < laneCount; i++) {
+                lanes[i] = Executors.newSingleThreadExecutor(Thread.ofVirtual().factory());
+            }
+        }
+
+        @Override
+        public <T> T execute(Long accountId, Supplier<T> work) {
+            return await(lanes[laneOf(accountId, lanes.length)].submit(work::get));
+        }
+
+        @Override
+        public <T> T execute(Long firstAccountId, Long secondAccountId, Supplier<T> work) {
+            int firstLane = laneOf(firstAccountId, lanes.length);
+            int secondLane = laneOf(secondAccountId, lanes.length);
+            if (firstLane == secondLane) {
+                return await(lanes[firstLane].submit(work::get));
+            }
+            ExecutorService outer = lanes[Math.min(firstLane, secondLane)];
+            ExecutorService inner = lanes[Math.max(firstLane, secondLane)];
+            return await(outer.submit(() -> await(inner.submit(work::get))));
+        }
+
+        private static <T> T await(Future<T> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    private static int laneOf(Long accountId, int laneCount) {
+        return Math.floorMod(Long.hashCode(accountId * 0x9E3779B97F4A7C15L), laneCount);
+    }
+
+    private static final class Latencies {
+
+        private final long[] samples;
+        private final AtomicInteger count = new AtomicInteger();
+
+        Latencies(int capacity) {
+            samples = new long[capacity];
+        }
+
+        void record(long nanos) {
+            samples[count.getAndIncrement()] = nanos;
+        }
+
+        double percentile(int percentile) {
+            long[] sorted = Arrays.copyOf(samples, count.get());
+            Arrays.sort(sorted);
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    private static final class Result {
+
+        private final double opsPerSecond;
+        private final Latencies hot;
+        private final Latencies cold;
+        private final int peakRowWaiters;
+
+        Result(double opsPerSecond, Latencies hot, Latencies cold, int peakRowWaiters) {
+            this.opsPerSecond = opsPerSecond;
+            this.hot = hot;
+            this.cold = cold;
+            this.peakRowWaiters = peakRowWaiters;
+        }
+    }
+}
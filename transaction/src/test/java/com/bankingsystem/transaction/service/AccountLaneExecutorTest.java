@@ -0,0 +1,106 @@
+package com.bankingsystem.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class AccountLaneExecutorTest {
+
+    private final AccountLaneExecutor laneExecutor = new AccountLaneExecutor(true, 8, 2);
+
+    @Test
+    void capsWorkInFlightOnTheSameAccount() throws Exception {
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+
+        runConcurrently(2000, i -> laneExecutor.execute(42L, () -> {
+            maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+            Thread.onSpinWait();
+            inside.decrementAndGet();
+            return completed.incrementAndGet();
+        }));
+
+        assertThat(completed.get()).isEqualTo(2000);
+        assertThat(maxInside.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void disabledLanesRunWorkDirectly() throws Exception {
+        AccountLaneExecutor disabled = new AccountLaneExecutor(false, 8, 1);
+        CountDownLatch bothInside = new CountDownLatch(2);
+
+        // Two calls on one account can only both reach the latch if nothing admits them one at a time
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> runConcurrently(2, i -> disabled.execute(42L, () -> {
+            bothInside.countDown();
+            awaitQuietly(bothInside);
+            return null;
+        })));
+        assertThat(bothInside.getCount()).isZero();
+    }
+
+    @Test
+    void oppositeTransfersDoNotDeadlock() {
+        AtomicInteger completed = new AtomicInteger();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> runConcurrently(2000, i -> {
+            long from = i % 2 == 0 ? 1L : 2L;
+            long to = i % 2 == 0 ? 2L : 1L;
+            return laneExecutor.execute(from, to, () -> {
+                // Mixing in single-account work on both ends keeps both lanes contended
+                laneExecutor.execute(from, completed::incrementAndGet);
+                return null;
+            });
+        }));
+
+        assertThat(completed.get()).isEqualTo(2000);
+    }
+
+    @Test
+    void rethrowsWorkFailuresAndReleasesTheLane() {
+        assertThatThrownBy(() -> laneExecutor.execute(7L, 8L, () -> {
+            throw new IllegalArgumentException("rejected");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("rejected");
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertThat(laneExecutor.execute(7L, () -> "ok")).isEqualTo("ok");
+            assertThat(laneExecutor.execute(8L, () -> "ok")).isEqualTo("ok");
+        });
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void runConcurrently(int tasks, Task task) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> task.run(index)));
+            }
+            for (Future<Object> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private interface Task {
+        Object run(int index);
+    }
+}